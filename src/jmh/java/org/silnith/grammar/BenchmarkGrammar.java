@@ -0,0 +1,77 @@
+package org.silnith.grammar;
+
+import org.silnith.grammar.bnf.BnfGrammar;
+import org.silnith.grammar.example.ExampleGrammar;
+import org.silnith.grammar.sql.Sql92Grammar;
+
+/**
+ * The grammars that the benchmarks generate parsers for.  The grammars are the fixtures that the tests use.  Each one
+ * has a start symbol for which every kind of parser can be generated without conflicts.
+ */
+public enum BenchmarkGrammar {
+    
+    /**
+     * The grammar of {@link ExampleGrammar}.
+     */
+    EXAMPLE {
+        
+        @Override
+        public Grammar<?> create() {
+            return new ExampleGrammar().call();
+        }
+        
+    },
+    
+    /**
+     * The grammar of {@link UriGrammar}, starting from an authority.
+     */
+    URI {
+        
+        @Override
+        public Grammar<?> create() {
+            final Grammar<?> grammar = new UriGrammar().call();
+            grammar.setStartSymbol(grammar.getNonTerminalSymbol("authority"));
+            return grammar;
+        }
+        
+    },
+    
+    /**
+     * The grammar of {@link BnfGrammar}, starting from a list of terms.
+     */
+    BNF {
+        
+        @Override
+        public Grammar<?> create() {
+            final Grammar<?> grammar = new BnfGrammar().call();
+            grammar.setStartSymbol(grammar.getNonTerminalSymbol("list"));
+            return grammar;
+        }
+        
+    },
+    
+    /**
+     * The grammar of {@link Sql92Grammar}.  The full grammar has conflicts, so this starts from the connect
+     * statement, which is the largest part of the grammar that does not.
+     */
+    SQL92 {
+        
+        @Override
+        public Grammar<?> create() {
+            final Grammar<?> grammar = new Sql92Grammar().call();
+            grammar.setStartSymbol(grammar.getNonTerminalSymbol("connect statement"));
+            return grammar;
+        }
+        
+    },
+    
+    ;
+    
+    /**
+     * Creates a new copy of the grammar, which has not been computed.
+     * 
+     * @return the grammar
+     */
+    public abstract Grammar<?> create();
+    
+}
@@ -0,0 +1,57 @@
+package org.silnith.grammar;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to generate a parser.  Every invocation starts from a new grammar that has not been
+ * computed, so nothing is carried over from one invocation to the next.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+    
+    @Param({"EXAMPLE", "URI", "BNF", "SQL92"})
+    public BenchmarkGrammar grammarName;
+    
+    @Param({"LR1", "LALR1", "MINIMAL_LR1"})
+    public ParserKind parserKind;
+    
+    private Grammar<?> grammar;
+    
+    @Setup(Level.Invocation)
+    public void setUpGrammar() {
+        grammar = grammarName.create();
+    }
+    
+    /**
+     * The nullable, first, and follow sets, which every kind of parser needs.
+     */
+    @Benchmark
+    public Grammar<?> compute() {
+        grammar.compute();
+        return grammar;
+    }
+    
+    @Benchmark
+    public Parser<?> createParser() {
+        return grammar.createParser(parserKind);
+    }
+    
+}
@@ -0,0 +1,132 @@
+package org.silnith.grammar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.silnith.grammar.uri.token.UriTerminalType;
+
+/**
+ * Measures parsing throughput with a parser for the authority part of URIs.  Each operation parses the same batch of
+ * short inputs, so the results show the per-call overhead as well as the per-token cost.  Run with
+ * {@code -prof gc} to see the allocation rate of each way of parsing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+    
+    /**
+     * The parser and the inputs, which are shared by all threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        
+        private Parser<UriTerminalType> parser;
+        
+        private List<String> inputs;
+        
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Grammar<UriTerminalType> grammar = new UriGrammar().call();
+            grammar.setStartSymbol(grammar.getNonTerminalSymbol("authority"));
+            parser = grammar.createParser();
+            
+            inputs = new ArrayList<>();
+            inputs.add("example");
+            inputs.add("example.com");
+            inputs.add("foo-bar.example.com");
+            inputs.add("foo-bar.example.com.");
+            inputs.add("example.com:80");
+            inputs.add("foo-bar.example.com:8080");
+            inputs.add("%00abyz0189-._~!$&'()*+,;=%FF");
+            inputs.add("%00abyz0189-._~!$&'()*+,;=%FF:80");
+        }
+        
+    }
+    
+    /**
+     * The parser stacks of one thread.
+     */
+    @State(Scope.Thread)
+    public static class Context {
+        
+        private ParserContext<UriTerminalType> context;
+        
+        @Setup(Level.Trial)
+        public void setUp(final Inputs inputs) {
+            context = inputs.parser.newContext();
+        }
+        
+    }
+    
+    private static void parse(final Inputs inputs, final Blackhole blackhole) {
+        for (final String input : inputs.inputs) {
+            blackhole.consume(inputs.parser.parse(new UriLexer(input)));
+        }
+    }
+    
+    private static void parseWithContext(final Inputs inputs, final Context context, final Blackhole blackhole) {
+        for (final String input : inputs.inputs) {
+            blackhole.consume(context.context.parse(new UriLexer(input)));
+        }
+    }
+    
+    private static void recognize(final Inputs inputs, final Blackhole blackhole) {
+        for (final String input : inputs.inputs) {
+            blackhole.consume(inputs.parser.recognize(new UriLexer(input)));
+        }
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public void parseSingleThread(final Inputs inputs, final Blackhole blackhole) {
+        parse(inputs, blackhole);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void parseMultiThread(final Inputs inputs, final Blackhole blackhole) {
+        parse(inputs, blackhole);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public void parseContextSingleThread(final Inputs inputs, final Context context, final Blackhole blackhole) {
+        parseWithContext(inputs, context, blackhole);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void parseContextMultiThread(final Inputs inputs, final Context context, final Blackhole blackhole) {
+        parseWithContext(inputs, context, blackhole);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public void recognizeSingleThread(final Inputs inputs, final Blackhole blackhole) {
+        recognize(inputs, blackhole);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void recognizeMultiThread(final Inputs inputs, final Blackhole blackhole) {
+        recognize(inputs, blackhole);
+    }
+    
+}
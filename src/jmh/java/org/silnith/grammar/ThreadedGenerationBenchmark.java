@@ -0,0 +1,64 @@
+package org.silnith.grammar;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to generate a canonical LR(1) parser with {@link Grammar#threadedCreateParser}, for
+ * different numbers of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadedGenerationBenchmark {
+    
+    @Param({"EXAMPLE", "URI", "BNF", "SQL92"})
+    public BenchmarkGrammar grammarName;
+    
+    @Param({"1", "4"})
+    public int threads;
+    
+    private Grammar<?> grammar;
+    
+    private ExecutorService executorService;
+    
+    @Setup(Level.Trial)
+    public void setUpExecutor() {
+        executorService = Executors.newFixedThreadPool(threads);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDownExecutor() {
+        executorService.shutdown();
+    }
+    
+    @Setup(Level.Invocation)
+    public void setUpGrammar() {
+        grammar = grammarName.create();
+    }
+    
+    @Benchmark
+    public Parser<?> threadedCreateParser() throws InterruptedException, ExecutionException {
+        return grammar.threadedCreateParser(executorService);
+    }
+    
+}
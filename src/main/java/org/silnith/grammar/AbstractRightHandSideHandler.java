@@ -0,0 +1,29 @@
+package org.silnith.grammar;
+
+import java.util.List;
+
+/**
+ * A convenience base class for {@link RightHandSideHandler} implementations.  It implements the {@link List}-based
+ * {@link ProductionHandler#handleReduction(List)} by adapting the list to a {@link RightHandSide}, so subclasses only
+ * need to implement {@link #handleReduction(RightHandSide)}.
+ */
+public abstract class AbstractRightHandSideHandler implements RightHandSideHandler {
+    
+    @Override
+    public Object handleReduction(final List<Object> rightHandSide) {
+        return handleReduction(new RightHandSide() {
+            
+            @Override
+            public int size() {
+                return rightHandSide.size();
+            }
+            
+            @Override
+            public Object get(final int index) {
+                return rightHandSide.get(index);
+            }
+            
+        });
+    }
+    
+}
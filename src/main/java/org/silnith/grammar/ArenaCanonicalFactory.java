@@ -0,0 +1,153 @@
+package org.silnith.grammar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A canonical factory that holds its canonical instances strongly until it is {@linkplain #clear() cleared}.  This
+ * is meant for values that are only created during a bounded piece of work, such as generating one parser, after
+ * which the whole arena is dropped at once.  Unlike a {@link WeakCanonicalFactory} it allocates no reference objects
+ * and leaves the garbage collector no references to process.
+ * 
+ * <p>Each canonical instance is assigned an identifier when it is first seen.  Identifiers are dense, starting at
+ * zero in the order the instances were created, so they can be used as indices into arrays of size
+ * {@link #getInstanceCount()}.  Identifiers are only valid until the arena is cleared.
+ * 
+ * <p>Looking up an existing canonical instance does not lock.  Creating a new one locks, so that identifiers have no
+ * gaps.
+ * 
+ * @param <T> the type for which to provide canonical instances.  The type must implement {@link Object#hashCode()} to be <dfn>consistent with equals</dfn>
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class ArenaCanonicalFactory<T> implements CanonicalFactory<T> {
+    
+    /**
+     * A canonical instance and its identifier.
+     * 
+     * @param <V> the type of the canonical instance
+     */
+    private static class ArenaEntry<V> {
+        
+        private final V instance;
+        
+        private final int id;
+        
+        public ArenaEntry(final V instance, final int id) {
+            super();
+            this.instance = instance;
+            this.id = id;
+        }
+        
+    }
+    
+    private final ConcurrentMap<T, ArenaEntry<T>> canonicalInstance;
+    
+    /**
+     * The canonical instances, indexed by identifier.  Guarded by {@code this}.
+     */
+    private final List<T> instances;
+    
+    private final AtomicLong callCount;
+    
+    private final AtomicLong contentionCount;
+    
+    /**
+     * Creates a new, empty arena.
+     */
+    public ArenaCanonicalFactory() {
+        super();
+        this.canonicalInstance = new ConcurrentHashMap<>();
+        this.instances = new ArrayList<>();
+        this.callCount = new AtomicLong();
+        this.contentionCount = new AtomicLong();
+    }
+    
+    private ArenaEntry<T> getEntry(final T t) {
+        final ArenaEntry<T> existingEntry = canonicalInstance.get(t);
+        if (existingEntry != null) {
+            return existingEntry;
+        }
+        
+        synchronized (this) {
+            final ArenaEntry<T> racedEntry = canonicalInstance.get(t);
+            if (racedEntry != null) {
+                /*
+                 * Another thread created the canonical instance while this one was waiting for the lock.
+                 */
+                contentionCount.incrementAndGet();
+                return racedEntry;
+            }
+            
+            final ArenaEntry<T> newEntry = new ArenaEntry<>(t, instances.size());
+            instances.add(t);
+            canonicalInstance.put(t, newEntry);
+            return newEntry;
+        }
+    }
+    
+    @Override
+    public T valueOf(final T t) {
+        callCount.incrementAndGet();
+        return getEntry(t).instance;
+    }
+    
+    /**
+     * Returns the identifier of the canonical instance for a value, creating the canonical instance if there is none.
+     * 
+     * @param t the value for which to get an identifier
+     * @return the identifier of the canonical instance of that value
+     */
+    public int getId(final T t) {
+        return getEntry(t).id;
+    }
+    
+    /**
+     * Returns the canonical instance with an identifier.
+     * 
+     * @param id the identifier of a canonical instance
+     * @return the canonical instance
+     * @throws IllegalArgumentException if there is no canonical instance with the identifier
+     */
+    public synchronized T getInstance(final int id) {
+        if (id < 0 || id >= instances.size()) {
+            throw new IllegalArgumentException("No canonical instance with identifier: " + id);
+        }
+        return instances.get(id);
+    }
+    
+    @Override
+    public synchronized long getInstanceCount() {
+        return instances.size();
+    }
+    
+    @Override
+    public long getCallCount() {
+        return callCount.get();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Only creating a new canonical instance locks, so this is the number of times a thread waited for the lock
+     * only to find that another thread had created the same canonical instance.
+     */
+    @Override
+    public long getContentionCount() {
+        return contentionCount.get();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>This drops every canonical instance, and identifiers start again from zero.
+     */
+    @Override
+    public synchronized void clear() {
+        canonicalInstance.clear();
+        instances.clear();
+    }
+    
+}
@@ -0,0 +1,54 @@
+package org.silnith.grammar;
+
+/**
+ * Converts instances of a type that are equal so that they refer to a single canonical instance.  The type must
+ * implement {@link Object#equals(Object)} and {@link Object#hashCode()} in a way that is <dfn>consistent with
+ * equals</dfn>.
+ * 
+ * @param <T> the type for which to provide canonical instances
+ * @see WeakCanonicalFactory
+ * @see ConcurrentCanonicalFactory
+ * @see ArenaCanonicalFactory
+ * @see Canonicalization
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public interface CanonicalFactory<T> {
+    
+    /**
+     * Returns the canonical instance for a value.
+     * 
+     * @param t the value for which to get a canonical instance
+     * @return the canonical instance of that value
+     */
+    T valueOf(T t);
+    
+    /**
+     * Returns the number of canonical instances currently stored.
+     * 
+     * @return the number of distinct values of the type that currently exist
+     */
+    long getInstanceCount();
+    
+    /**
+     * Returns the number of times a value was converted to a canonical instance.  This includes the first time a value
+     * is seen, in which case that value is stored and returned for subsequent equal values.
+     * 
+     * @return the number of times a value has been canonicalized
+     */
+    long getCallCount();
+    
+    /**
+     * Returns the number of times a call to {@link #valueOf(Object)} was slowed down by a concurrent call from another
+     * thread.
+     * 
+     * @return the number of contended calls
+     */
+    long getContentionCount();
+    
+    /**
+     * Discards all canonical instances.  Values canonicalized afterward will be equal to, but not the same instances
+     * as, equal values canonicalized before.
+     */
+    void clear();
+    
+}
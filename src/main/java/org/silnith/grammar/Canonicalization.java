@@ -0,0 +1,58 @@
+package org.silnith.grammar;
+
+/**
+ * The kinds of {@link CanonicalFactory} that a {@link Grammar} can use for the items, parser states, and edges it
+ * creates while generating a parser.
+ * 
+ * @see Grammar#Grammar(SetFactory, Canonicalization, Canonicalization, Canonicalization, Canonicalization)
+ */
+public enum Canonicalization {
+    
+    /**
+     * A {@link WeakCanonicalFactory}, which serializes all threads on a single lock.
+     */
+    SYNCHRONIZED {
+        
+        @Override
+        public <V> CanonicalFactory<V> createFactory() {
+            return new WeakCanonicalFactory<>();
+        }
+        
+    },
+    
+    /**
+     * A {@link ConcurrentCanonicalFactory}, which does not lock.
+     */
+    CONCURRENT {
+        
+        @Override
+        public <V> CanonicalFactory<V> createFactory() {
+            return new ConcurrentCanonicalFactory<>();
+        }
+        
+    },
+    
+    /**
+     * An {@link ArenaCanonicalFactory}, which holds canonical instances strongly and assigns them dense identifiers.
+     * The grammar drops the arena after each parser is created, so instances are only shared within one build.
+     */
+    ARENA {
+        
+        @Override
+        public <V> CanonicalFactory<V> createFactory() {
+            return new ArenaCanonicalFactory<>();
+        }
+        
+    },
+    
+    ;
+    
+    /**
+     * Creates a new, empty canonical factory of this kind.
+     * 
+     * @param <V> the type for which to provide canonical instances
+     * @return a new canonical factory
+     */
+    public abstract <V> CanonicalFactory<V> createFactory();
+    
+}
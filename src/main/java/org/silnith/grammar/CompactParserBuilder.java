@@ -0,0 +1,755 @@
+package org.silnith.grammar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes the canonical LR(1) parsing tables for a grammar using a compact encoding of the parser states, instead of
+ * the {@link Item}, {@link LookaheadItem}, {@link ParserState}, and {@link Edge} objects.
+ * 
+ * <p>Productions are numbered in the order of the grammar, with the synthetic start production last.  An LR(0) item
+ * is a single {@code int}, the production number shifted left by enough bits to hold the longest production, with
+ * the parse position in the low bits.  A look-ahead set is a run of {@code long} words of a bit set over the
+ * terminals, with the end-of-file terminal always number zero.  A parser state is identified by its kernel, which is
+ * the sorted array of the items that were advanced into it, plus one flat array holding the look-ahead set of each
+ * item in the same order.  The rest of the state is the closure of the kernel, so two states are the same exactly when
+ * their kernels are, and the kernels are hashed and compared as primitive arrays.
+ * 
+ * <p>The closure of a state is only needed while its outgoing transitions and reductions are written into the tables,
+ * so it is built in scratch arrays that are reused for every state.
+ * 
+ * @param <T> the concrete type of terminal symbols
+ */
+final class CompactParserBuilder<T extends TerminalSymbol> {
+    
+    /**
+     * The kernel of a parser state.
+     */
+    private static final class Kernel {
+        
+        /**
+         * The encoded items, in ascending order.
+         */
+        private final int[] items;
+        
+        /**
+         * The look-ahead set of each item, as consecutive runs of words.
+         */
+        private final long[] lookaheads;
+        
+        private final int hashCode;
+        
+        public Kernel(final int[] items, final long[] lookaheads) {
+            super();
+            this.items = items;
+            this.lookaheads = lookaheads;
+            this.hashCode = 31 * Arrays.hashCode(items) + Arrays.hashCode(lookaheads);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj instanceof Kernel) {
+                final Kernel other = (Kernel) obj;
+                if (hashCode != other.hashCode) {
+                    return false;
+                }
+                return Arrays.equals(items, other.items) && Arrays.equals(lookaheads, other.lookaheads);
+            } else {
+                return false;
+            }
+        }
+        
+    }
+    
+    private final List<Item> productions;
+    
+    private final TerminalIndex<T> terminals;
+    
+    /**
+     * The non-terminals of the grammar.  The start symbol is not included, and is numbered after all of these.
+     */
+    private final List<NonTerminalSymbol> nonTerminals;
+    
+    private final int terminalCount;
+    
+    private final int nonTerminalCount;
+    
+    /**
+     * The number of words in each look-ahead set.
+     */
+    private final int words;
+    
+    /**
+     * The number of low bits of an item that hold the parse position.
+     */
+    private final int positionBits;
+    
+    private final int positionMask;
+    
+    /**
+     * The number of the synthetic start production.
+     */
+    private final int startProduction;
+    
+    /**
+     * The non-terminal number of the target of each production.
+     */
+    private final int[] productionTarget;
+    
+    /**
+     * The symbols of each production.  Terminals are their terminal number, and non-terminals are their non-terminal
+     * number plus the number of terminals.
+     */
+    private final int[][] productionSymbols;
+    
+    /**
+     * The dense number of the first item of each production, so every LR(0) item has an index into the scratch
+     * arrays.
+     */
+    private final int[] productionOffset;
+    
+    /**
+     * The first set of every suffix of every production, as in {@code Grammar.ProductionSuffixes}.
+     */
+    private final long[][] suffixFirst;
+    
+    private final boolean[][] suffixNullable;
+    
+    /**
+     * The productions in the closure of each non-terminal, as in {@code Grammar.ClosureKernel}, or {@code null} for a
+     * non-terminal that does not appear in any production.
+     */
+    private final int[][] kernelProductions;
+    
+    private final long[][] kernelLookaheads;
+    
+    private final boolean[][] kernelPropagated;
+    
+    private final Map<Kernel, Integer> stateNumbers;
+    
+    private final List<Kernel> states;
+    
+    /**
+     * The non-error actions of each parser state, as pairs of terminal index and encoded action.  The rows are kept
+     * sparse while the states are being discovered so that the dense tables are only allocated once, at their final
+     * size.
+     */
+    private final List<int[]> actionRows;
+    
+    /**
+     * The transitions on non-terminals of each parser state, as pairs of non-terminal index and destination state.
+     */
+    private final List<int[]> gotoRows;
+    
+    private long edgeCount;
+    
+    private long closureIterations;
+    
+    private long duplicateStates;
+    
+    private long parseTableTime;
+    
+    /*
+     * Scratch space for the closure of one state.
+     */
+    
+    private final int[] closureSlot;
+    
+    private final int[] closureItems;
+    
+    private final long[] closureLookaheads;
+    
+    private final long[] propagatedLookahead;
+    
+    private final int[] actionRow;
+    
+    private final int[] actionRowTerminals;
+    
+    private int actionRowSize;
+    
+    /**
+     * Prepares to compute the parsing tables for a grammar.
+     * 
+     * @param productions the productions of the grammar, as items at position zero, in ordinal order
+     * @param startItem the synthetic start production, as an item at position zero
+     * @param endOfFileSymbol the terminal that marks the end of input
+     * @param lexicon the terminals of the grammar
+     * @param first the first set of every non-terminal
+     * @param nullable the nullable non-terminals
+     * @throws IllegalStateException if the grammar is too large to encode
+     */
+    CompactParserBuilder(final List<Item> productions, final Item startItem, final T endOfFileSymbol,
+            final Collection<T> lexicon, final Map<Symbol, Set<T>> first, final Set<NonTerminalSymbol> nullable) {
+        super();
+        this.productions = productions;
+        
+        final List<T> terminalList = new ArrayList<>(lexicon.size() + 1);
+        terminalList.add(endOfFileSymbol);
+        terminalList.addAll(lexicon);
+        this.terminals = new TerminalIndex<>(terminalList);
+        this.terminalCount = terminals.size();
+        this.words = (terminalCount + Long.SIZE - 1) / Long.SIZE;
+        
+        final Map<NonTerminalSymbol, Integer> nonTerminalIndex = new LinkedHashMap<>();
+        for (final Item item : productions) {
+            addNonTerminal(item.getTarget(), nonTerminalIndex);
+        }
+        for (final Item item : productions) {
+            for (final Symbol symbol : item.getProduction().getSymbols()) {
+                if (symbol instanceof NonTerminalSymbol) {
+                    addNonTerminal((NonTerminalSymbol) symbol, nonTerminalIndex);
+                }
+            }
+        }
+        final int productionNonTerminalCount = nonTerminalIndex.size();
+        addNonTerminal(startItem.getProduction().getSymbols().get(0), nonTerminalIndex);
+        this.nonTerminals = new ArrayList<>(nonTerminalIndex.keySet());
+        this.nonTerminalCount = nonTerminals.size();
+        
+        this.startProduction = productions.size();
+        final int productionCount = startProduction + 1;
+        final List<Item> allProductions = new ArrayList<>(productions);
+        allProductions.add(startItem);
+        
+        this.productionTarget = new int[productionCount];
+        this.productionSymbols = new int[productionCount][];
+        this.productionOffset = new int[productionCount + 1];
+        int maximumLength = 0;
+        for (int p = 0; p < productionCount; p++) {
+            final Item item = allProductions.get(p);
+            final List<Symbol> symbols = item.getProduction().getSymbols();
+            productionTarget[p] = p == startProduction ? nonTerminalCount : nonTerminalIndex.get(item.getTarget());
+            productionSymbols[p] = new int[symbols.size()];
+            for (int i = 0; i < symbols.size(); i++) {
+                productionSymbols[p][i] = encodeSymbol(symbols.get(i), nonTerminalIndex);
+            }
+            productionOffset[p + 1] = productionOffset[p] + symbols.size() + 1;
+            maximumLength = Math.max(maximumLength, symbols.size());
+        }
+        this.positionBits = Integer.SIZE - Integer.numberOfLeadingZeros(maximumLength);
+        this.positionMask = (1 << positionBits) - 1;
+        if (startProduction > Integer.MAX_VALUE >>> positionBits) {
+            throw new IllegalStateException("Too many productions to encode as items: " + productionCount);
+        }
+        
+        /*
+         * The first set and nullability of every non-terminal.
+         */
+        final long[][] nonTerminalFirst = new long[nonTerminalCount][];
+        final boolean[] nonTerminalNullable = new boolean[nonTerminalCount];
+        for (int n = 0; n < nonTerminalCount; n++) {
+            final NonTerminalSymbol nonTerminal = nonTerminals.get(n);
+            nonTerminalFirst[n] = new long[words];
+            final Set<T> firstSet = first.get(nonTerminal);
+            if (firstSet != null) {
+                for (final T terminal : firstSet) {
+                    setBit(nonTerminalFirst[n], 0, terminals.indexOf(terminal));
+                }
+            }
+            nonTerminalNullable[n] = nullable.contains(nonTerminal);
+        }
+        
+        this.suffixFirst = new long[productionCount][];
+        this.suffixNullable = new boolean[productionCount][];
+        for (int p = 0; p < productionCount; p++) {
+            final int[] symbols = productionSymbols[p];
+            final int length = symbols.length;
+            final long[] firstSets = new long[(length + 1) * words];
+            final boolean[] suffixIsNullable = new boolean[length + 1];
+            suffixIsNullable[length] = true;
+            /*
+             * Work backwards, so each suffix is the first set of its first symbol combined with the suffix after it if
+             * the first symbol is nullable.
+             */
+            for (int i = length - 1; i >= 0; i--) {
+                final int symbol = symbols[i];
+                if (symbol < terminalCount) {
+                    setBit(firstSets, i * words, symbol);
+                    suffixIsNullable[i] = false;
+                } else {
+                    final int n = symbol - terminalCount;
+                    System.arraycopy(nonTerminalFirst[n], 0, firstSets, i * words, words);
+                    if (nonTerminalNullable[n]) {
+                        or(firstSets, i * words, firstSets, (i + 1) * words, words);
+                        suffixIsNullable[i] = suffixIsNullable[i + 1];
+                    } else {
+                        suffixIsNullable[i] = false;
+                    }
+                }
+            }
+            suffixFirst[p] = firstSets;
+            suffixNullable[p] = suffixIsNullable;
+        }
+        
+        final int[][] productionsByNonTerminal = new int[nonTerminalCount][];
+        final int[] productionCounts = new int[nonTerminalCount];
+        for (int p = 0; p < startProduction; p++) {
+            productionCounts[productionTarget[p]]++;
+        }
+        for (int n = 0; n < nonTerminalCount; n++) {
+            productionsByNonTerminal[n] = new int[productionCounts[n]];
+            productionCounts[n] = 0;
+        }
+        for (int p = 0; p < startProduction; p++) {
+            final int n = productionTarget[p];
+            productionsByNonTerminal[n][productionCounts[n]++] = p;
+        }
+        
+        this.kernelProductions = new int[nonTerminalCount][];
+        this.kernelLookaheads = new long[nonTerminalCount][];
+        this.kernelPropagated = new boolean[nonTerminalCount][];
+        computeClosureKernels(productionsByNonTerminal, productionNonTerminalCount);
+        
+        this.stateNumbers = new HashMap<>();
+        this.states = new ArrayList<>();
+        this.actionRows = new ArrayList<>();
+        this.gotoRows = new ArrayList<>();
+        this.edgeCount = 0;
+        
+        final int itemCount = productionOffset[productionCount];
+        this.closureSlot = new int[itemCount];
+        Arrays.fill(closureSlot, -1);
+        this.closureItems = new int[itemCount];
+        this.closureLookaheads = new long[itemCount * words];
+        this.propagatedLookahead = new long[words];
+        this.actionRow = new int[terminalCount];
+        this.actionRowTerminals = new int[terminalCount];
+        this.actionRowSize = 0;
+    }
+    
+    private static void addNonTerminal(final Symbol symbol, final Map<NonTerminalSymbol, Integer> nonTerminalIndex) {
+        if (symbol instanceof NonTerminalSymbol && !nonTerminalIndex.containsKey(symbol)) {
+            nonTerminalIndex.put((NonTerminalSymbol) symbol, nonTerminalIndex.size());
+        }
+    }
+    
+    private int encodeSymbol(final Symbol symbol, final Map<NonTerminalSymbol, Integer> nonTerminalIndex) {
+        if (symbol instanceof NonTerminalSymbol) {
+            return terminalCount + nonTerminalIndex.get(symbol);
+        }
+        final int terminal = terminals.indexOf(symbol);
+        if (terminal < 0) {
+            throw new IllegalStateException("Symbol is neither terminal nor non-terminal: " + symbol);
+        }
+        return terminal;
+    }
+    
+    private static void setBit(final long[] bits, final int offset, final int bit) {
+        bits[offset + bit / Long.SIZE] |= 1L << bit;
+    }
+    
+    /**
+     * Adds the bits of one set into another.
+     * 
+     * @return {@code true} if the destination set changed
+     */
+    private static boolean or(final long[] destination, final int destinationOffset, final long[] source,
+            final int sourceOffset, final int length) {
+        boolean changed = false;
+        for (int i = 0; i < length; i++) {
+            final long word = destination[destinationOffset + i] | source[sourceOffset + i];
+            if (word != destination[destinationOffset + i]) {
+                destination[destinationOffset + i] = word;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+    
+    private int getProduction(final int item) {
+        return item >>> positionBits;
+    }
+    
+    private int getParserPosition(final int item) {
+        return item & positionMask;
+    }
+    
+    /**
+     * Computes the closure kernel of every non-terminal that appears in a production, the same way {@code Grammar}
+     * does.  A non-terminal that only appears on the right-hand side of productions has an empty closure kernel.
+     */
+    private void computeClosureKernels(final int[][] productionsByNonTerminal, final int productionNonTerminalCount) {
+        final int productionCount = startProduction + 1;
+        final int[] slot = new int[productionCount];
+        Arrays.fill(slot, -1);
+        final int[] kernelItems = new int[productionCount];
+        final long[] lookaheads = new long[productionCount * words];
+        final boolean[] propagated = new boolean[productionCount];
+        /*
+         * A production is only queued once at a time, so the queue is a ring buffer that never overflows.
+         */
+        final int[] queue = new int[productionCount];
+        final boolean[] queued = new boolean[productionCount];
+        
+        for (int n = 0; n < productionNonTerminalCount; n++) {
+            int size = 0;
+            int head = 0;
+            int queueSize = 0;
+            for (final int p : productionsByNonTerminal[n]) {
+                slot[p] = size;
+                kernelItems[size] = p;
+                propagated[size] = true;
+                size++;
+                queue[(head + queueSize++) % productionCount] = p;
+                queued[p] = true;
+            }
+            
+            long iterations = 0;
+            while (queueSize > 0) {
+                final int p = queue[head];
+                head = (head + 1) % productionCount;
+                queueSize--;
+                queued[p] = false;
+                iterations++;
+                
+                final int[] symbols = productionSymbols[p];
+                if (symbols.length == 0 || symbols[0] < terminalCount) {
+                    continue;
+                }
+                
+                final int source = slot[p];
+                final boolean remainderIsNullable = suffixNullable[p][1];
+                for (final int q : productionsByNonTerminal[symbols[0] - terminalCount]) {
+                    boolean changed;
+                    if (slot[q] < 0) {
+                        slot[q] = size;
+                        kernelItems[size] = q;
+                        propagated[size] = false;
+                        size++;
+                        changed = true;
+                    } else {
+                        changed = false;
+                    }
+                    final int target = slot[q];
+                    
+                    changed = or(lookaheads, target * words, suffixFirst[p], words, words) || changed;
+                    if (remainderIsNullable) {
+                        changed = or(lookaheads, target * words, lookaheads, source * words, words) || changed;
+                        if (propagated[source] && !propagated[target]) {
+                            propagated[target] = true;
+                            changed = true;
+                        }
+                    }
+                    
+                    if (changed && !queued[q]) {
+                        queue[(head + queueSize++) % productionCount] = q;
+                        queued[q] = true;
+                    }
+                }
+            }
+            closureIterations += iterations;
+            
+            kernelProductions[n] = Arrays.copyOf(kernelItems, size);
+            kernelLookaheads[n] = Arrays.copyOf(lookaheads, size * words);
+            kernelPropagated[n] = Arrays.copyOf(propagated, size);
+            
+            for (int i = 0; i < size; i++) {
+                slot[kernelItems[i]] = -1;
+            }
+            Arrays.fill(lookaheads, 0, size * words, 0);
+        }
+    }
+    
+    /**
+     * Returns the number of a parser state, adding it if it is new.
+     */
+    private int getStateNumber(final Kernel kernel) {
+        final Integer existing = stateNumbers.get(kernel);
+        if (existing != null) {
+            duplicateStates++;
+            return existing;
+        }
+        
+        final int state = states.size();
+        stateNumbers.put(kernel, state);
+        states.add(kernel);
+        return state;
+    }
+    
+    /**
+     * Sets an action in the row of the state being expanded.
+     */
+    private void putAction(final int state, final int terminal, final int action) {
+        final int previousAction = actionRow[terminal];
+        if (previousAction == ParseTable.ERROR) {
+            actionRowTerminals[actionRowSize++] = terminal;
+        } else if (previousAction != action) {
+            final List<String> productionNames = new ArrayList<>(productions.size());
+            for (final Item item : productions) {
+                productionNames.add(ParseTable.describeProduction(item));
+            }
+            throw new IllegalStateException("Conflict between actions "
+                    + ParseTable.describeAction(action, productionNames) + " and "
+                    + ParseTable.describeAction(previousAction, productionNames) + " in state " + state
+                    + " on symbol " + terminals.get(terminal));
+        }
+        actionRow[terminal] = action;
+    }
+    
+    /**
+     * Adds an item to the closure in the scratch arrays, with an empty look-ahead set if it is not already there.
+     * 
+     * @return the slot of the item in the closure
+     */
+    private int addClosureItem(final int item, final int closureSize) {
+        final int denseItem = productionOffset[getProduction(item)] + getParserPosition(item);
+        if (closureSlot[denseItem] < 0) {
+            closureSlot[denseItem] = closureSize;
+            closureItems[closureSize] = item;
+            Arrays.fill(closureLookaheads, closureSize * words, (closureSize + 1) * words, 0);
+        }
+        return closureSlot[denseItem];
+    }
+    
+    /**
+     * Computes the closure of a parser state, then fills in its row of the tables and adds the states that it
+     * transitions to.
+     */
+    private void expandState(final int state) {
+        final Kernel kernel = states.get(state);
+        
+        int closureSize = 0;
+        for (int i = 0; i < kernel.items.length; i++) {
+            final int slot = addClosureItem(kernel.items[i], closureSize);
+            if (slot == closureSize) {
+                closureSize++;
+            }
+            or(closureLookaheads, slot * words, kernel.lookaheads, i * words, words);
+        }
+        
+        /*
+         * The closure of the kernel is the union of the precomputed closure kernels of the next symbols of the kernel
+         * items, with the propagated look-ahead filled in.
+         */
+        for (int i = 0; i < kernel.items.length; i++) {
+            final int item = kernel.items[i];
+            final int p = getProduction(item);
+            final int position = getParserPosition(item);
+            final int[] symbols = productionSymbols[p];
+            if (position == symbols.length || symbols[position] < terminalCount) {
+                continue;
+            }
+            
+            final int n = symbols[position] - terminalCount;
+            if (kernelProductions[n] == null) {
+                throw new IllegalStateException("No productions for non-terminal: " + nonTerminals.get(n));
+            }
+            
+            System.arraycopy(suffixFirst[p], (position + 1) * words, propagatedLookahead, 0, words);
+            if (suffixNullable[p][position + 1]) {
+                or(propagatedLookahead, 0, kernel.lookaheads, i * words, words);
+            }
+            
+            final int[] kernelItems = kernelProductions[n];
+            for (int j = 0; j < kernelItems.length; j++) {
+                final int slot = addClosureItem(kernelItems[j] << positionBits, closureSize);
+                if (slot == closureSize) {
+                    closureSize++;
+                }
+                or(closureLookaheads, slot * words, kernelLookaheads[n], j * words, words);
+                if (kernelPropagated[n][j]) {
+                    or(closureLookaheads, slot * words, propagatedLookahead, 0, words);
+                }
+            }
+            closureIterations += kernelItems.length;
+        }
+        
+        /*
+         * Reductions and acceptance, and the transitions sorted by symbol and then by advanced item.
+         */
+        final long[] transitions = new long[closureSize];
+        int transitionCount = 0;
+        for (int slot = 0; slot < closureSize; slot++) {
+            final int item = closureItems[slot];
+            final int p = getProduction(item);
+            final int position = getParserPosition(item);
+            final int[] symbols = productionSymbols[p];
+            if (position == symbols.length) {
+                if (p != startProduction) {
+                    final int action = ParseTable.encodeAction(ParseTable.REDUCE, p);
+                    for (int w = 0; w < words; w++) {
+                        long bits = closureLookaheads[slot * words + w];
+                        while (bits != 0) {
+                            putAction(state, w * Long.SIZE + Long.numberOfTrailingZeros(bits), action);
+                            bits &= bits - 1;
+                        }
+                    }
+                }
+            } else if (symbols[position] == 0) {
+                /*
+                 * The end-of-file symbol is never shifted.
+                 */
+                putAction(state, 0, ParseTable.encodeAction(ParseTable.ACCEPT, 0));
+            } else {
+                transitions[transitionCount++] = (long) symbols[position] << Integer.SIZE | item + 1;
+            }
+        }
+        Arrays.sort(transitions, 0, transitionCount);
+        
+        final int[] gotoRow = new int[2 * transitionCount];
+        int gotoRowSize = 0;
+        
+        for (int start = 0; start < transitionCount; ) {
+            final int symbol = (int) (transitions[start] >>> Integer.SIZE);
+            int end = start + 1;
+            while (end < transitionCount && (int) (transitions[end] >>> Integer.SIZE) == symbol) {
+                end++;
+            }
+            
+            final int[] gotoItems = new int[end - start];
+            final long[] gotoLookaheads = new long[gotoItems.length * words];
+            for (int i = 0; i < gotoItems.length; i++) {
+                final int item = (int) transitions[start + i];
+                gotoItems[i] = item;
+                final int slot = closureSlot[productionOffset[getProduction(item)] + getParserPosition(item) - 1];
+                System.arraycopy(closureLookaheads, slot * words, gotoLookaheads, i * words, words);
+            }
+            
+            final int destinationState = getStateNumber(new Kernel(gotoItems, gotoLookaheads));
+            if (symbol < terminalCount) {
+                putAction(state, symbol, ParseTable.encodeAction(ParseTable.SHIFT, destinationState));
+            } else {
+                gotoRow[gotoRowSize++] = symbol - terminalCount;
+                gotoRow[gotoRowSize++] = destinationState;
+            }
+            edgeCount++;
+            
+            start = end;
+        }
+        
+        final int[] sparseActionRow = new int[2 * actionRowSize];
+        for (int i = 0; i < actionRowSize; i++) {
+            final int terminal = actionRowTerminals[i];
+            sparseActionRow[2 * i] = terminal;
+            sparseActionRow[2 * i + 1] = actionRow[terminal];
+            actionRow[terminal] = ParseTable.ERROR;
+        }
+        actionRowSize = 0;
+        actionRows.add(sparseActionRow);
+        gotoRows.add(Arrays.copyOf(gotoRow, gotoRowSize));
+        
+        for (int slot = 0; slot < closureSize; slot++) {
+            final int item = closureItems[slot];
+            closureSlot[productionOffset[getProduction(item)] + getParserPosition(item)] = -1;
+        }
+    }
+    
+    /**
+     * Computes every parser state reachable from the start production, and compiles them into parsing tables.
+     * 
+     * @param grammarFingerprint the fingerprint of the grammar
+     * @return the parsing tables
+     * @throws IllegalStateException if two actions conflict for the same state and symbol
+     */
+    ParseTable<T> build(final long grammarFingerprint) {
+        final long[] endOfFileSet = new long[words];
+        setBit(endOfFileSet, 0, 0);
+        getStateNumber(new Kernel(new int[] {startProduction << positionBits}, endOfFileSet));
+        
+        /*
+         * States are numbered in the order they are found, so each wave of states found by the previous wave is a
+         * contiguous range of state numbers.  Every state takes one closure, and every edge one goto.
+         */
+        int wave = 0;
+        for (int waveStart = 0; waveStart < states.size(); wave++) {
+            final Object event = FlightRecorderEvent.PARSER_STATE_WAVE.begin();
+            final int waveEnd = states.size();
+            final long waveEdgeCount = edgeCount;
+            for (int state = waveStart; state < waveEnd; state++) {
+                expandState(state);
+            }
+            
+            if (event != null) {
+                final long newEdgeCount = edgeCount - waveEdgeCount;
+                FlightRecorderEvent.PARSER_STATE_WAVE.commit(event, wave, waveEnd - waveStart, (int) newEdgeCount,
+                        states.size() - waveEnd, (long) (waveEnd - waveStart), newEdgeCount);
+            }
+            waveStart = waveEnd;
+        }
+        
+        /*
+         * The synthetic start symbol is never the target of a reduction, so it is left out of the tables.
+         */
+        final long tableStartTime = System.nanoTime();
+        final int stateCount = states.size();
+        final int[] actionTable = new int[stateCount * terminalCount];
+        final int[] gotoTable = new int[stateCount * nonTerminalCount];
+        Arrays.fill(gotoTable, ParseTable.NO_STATE);
+        for (int state = 0; state < stateCount; state++) {
+            final int[] sparseActionRow = actionRows.set(state, null);
+            for (int i = 0; i < sparseActionRow.length; i += 2) {
+                actionTable[state * terminalCount + sparseActionRow[i]] = sparseActionRow[i + 1];
+            }
+            final int[] sparseGotoRow = gotoRows.set(state, null);
+            for (int i = 0; i < sparseGotoRow.length; i += 2) {
+                gotoTable[state * nonTerminalCount + sparseGotoRow[i]] = sparseGotoRow[i + 1];
+            }
+        }
+        final ParseTable<T> parseTable = new ParseTable<>(stateCount, terminals, nonTerminals, actionTable, gotoTable,
+                productions, Arrays.copyOf(productionTarget, startProduction), grammarFingerprint);
+        parseTableTime = System.nanoTime() - tableStartTime;
+        return parseTable;
+    }
+    
+    /**
+     * Returns the number of parser states computed by {@link #build(long)}.
+     * 
+     * @return the number of parser states
+     */
+    int getStateCount() {
+        return states.size();
+    }
+    
+    /**
+     * Returns the number of transitions between parser states computed by {@link #build(long)}.
+     * 
+     * @return the number of edges
+     */
+    long getEdgeCount() {
+        return edgeCount;
+    }
+    
+    /**
+     * Returns the number of items processed by closure calculations, including the closure kernels.
+     * 
+     * @return the number of closure iterations
+     */
+    long getClosureIterations() {
+        return closureIterations;
+    }
+    
+    /**
+     * Returns the number of transitions computed by {@link #build(long)} that led to a parser state that had already
+     * been found.
+     * 
+     * @return the number of duplicate parser states
+     */
+    long getDuplicateStates() {
+        return duplicateStates;
+    }
+    
+    /**
+     * Returns the time {@link #build(long)} spent filling in the dense parsing tables after all the parser states were
+     * found.
+     * 
+     * @return the time in nanoseconds
+     */
+    long getParseTableTime() {
+        return parseTableTime;
+    }
+    
+}
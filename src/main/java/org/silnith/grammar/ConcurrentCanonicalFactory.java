@@ -0,0 +1,153 @@
+package org.silnith.grammar;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A canonical factory that many threads can use at once without locking.  Like a {@link WeakCanonicalFactory}, it
+ * does not prevent canonical instances from being garbage collected.
+ * 
+ * <p>The canonical instances are held in a {@link ConcurrentHashMap} keyed by weak references that compare equal
+ * when their referents do.  A thread that finds no canonical instance publishes its own value with
+ * {@link ConcurrentMap#putIfAbsent(Object, Object)}, so when two threads race to canonicalize equal values, exactly
+ * one of them wins and the other returns the winner.  References cleared by the garbage collector are removed from
+ * the map on later calls.
+ * 
+ * @param <T> the type for which to provide canonical instances.  The type must implement {@link Object#hashCode()} to be <dfn>consistent with equals</dfn>
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class ConcurrentCanonicalFactory<T> implements CanonicalFactory<T> {
+    
+    /**
+     * A weak reference that is equal to another if their referents are equal.  A cleared reference is only equal to
+     * itself, which is enough to remove it from the map because the hash code is kept.
+     * 
+     * @param <V> the type of the referent
+     */
+    private static class CanonicalReference<V> extends WeakReference<V> {
+        
+        private final int hashCode;
+        
+        public CanonicalReference(final V referent, final ReferenceQueue<? super V> queue) {
+            super(referent, queue);
+            this.hashCode = referent.hashCode();
+        }
+        
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof CanonicalReference) {
+                final CanonicalReference<?> other = (CanonicalReference<?>) obj;
+                if (hashCode != other.hashCode) {
+                    return false;
+                }
+                final Object referent = get();
+                return referent != null && referent.equals(other.get());
+            } else {
+                return false;
+            }
+        }
+        
+    }
+    
+    private final ConcurrentMap<CanonicalReference<T>, CanonicalReference<T>> canonicalInstance;
+    
+    private final ReferenceQueue<T> referenceQueue;
+    
+    private final AtomicLong callCount;
+    
+    private final AtomicLong contentionCount;
+    
+    /**
+     * Creates a new canonical factory.
+     */
+    public ConcurrentCanonicalFactory() {
+        super();
+        this.canonicalInstance = new ConcurrentHashMap<>();
+        this.referenceQueue = new ReferenceQueue<>();
+        this.callCount = new AtomicLong();
+        this.contentionCount = new AtomicLong();
+    }
+    
+    /**
+     * Removes the entries whose canonical instances have been garbage collected.
+     */
+    private void expungeStaleEntries() {
+        for (Reference<? extends T> reference = referenceQueue.poll(); reference != null; reference = referenceQueue.poll()) {
+            canonicalInstance.remove(reference, reference);
+        }
+    }
+    
+    @Override
+    public T valueOf(final T t) {
+        callCount.incrementAndGet();
+        expungeStaleEntries();
+        
+        /*
+         * As long as the strong reference t exists, this weak reference will not vanish.
+         */
+        final CanonicalReference<T> newReference = new CanonicalReference<>(t, referenceQueue);
+        
+        while (true) {
+            final CanonicalReference<T> existingReference = canonicalInstance.putIfAbsent(newReference, newReference);
+            if (existingReference == null) {
+                /*
+                 * There was no existing entry, so this value is now the canonical instance.
+                 */
+                return t;
+            }
+            
+            final T existingT = existingReference.get();
+            if (existingT != null) {
+                return existingT;
+            }
+            
+            /*
+             * The existing canonical instance was reclaimed after it was found equal, but before its reference was
+             * expunged.  Remove it and try again, racing any other thread that found it.
+             */
+            contentionCount.incrementAndGet();
+            canonicalInstance.remove(existingReference, existingReference);
+        }
+    }
+    
+    @Override
+    public long getInstanceCount() {
+        expungeStaleEntries();
+        return canonicalInstance.size();
+    }
+    
+    @Override
+    public long getCallCount() {
+        return callCount.get();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>This never blocks, so this is the number of times a call had to retry because a canonical instance was
+     * reclaimed while it was being looked up.
+     */
+    @Override
+    public long getContentionCount() {
+        return contentionCount.get();
+    }
+    
+    @Override
+    public void clear() {
+        canonicalInstance.clear();
+        expungeStaleEntries();
+    }
+    
+}
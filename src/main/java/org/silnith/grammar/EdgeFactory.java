@@ -1,9 +1,20 @@
 package org.silnith.grammar;
 
-class EdgeFactory<T extends TerminalSymbol> extends WeakCanonicalFactory<Edge<T>> {
+class EdgeFactory<T extends TerminalSymbol> {
+    
+    private final CanonicalFactory<Edge<T>> canonicalFactory;
+    
+    public EdgeFactory(final CanonicalFactory<Edge<T>> canonicalFactory) {
+        super();
+        this.canonicalFactory = canonicalFactory;
+    }
     
     public Edge<T> createInstance(final ParserState<T> initialState, final Symbol symbol, final ParserState<T> finalState) {
-        return valueOf(new Edge<>(initialState, symbol, finalState));
+        return canonicalFactory.valueOf(new Edge<>(initialState, symbol, finalState));
+    }
+    
+    public CanonicalFactory<Edge<T>> getCanonicalFactory() {
+        return canonicalFactory;
     }
     
 }
@@ -0,0 +1,309 @@
+package org.silnith.grammar;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A custom Java Flight Recorder event type.  Flight Recorder is only available on Java 11 and later, and this library
+ * is built for Java 7, so the event types are defined at runtime through {@code jdk.jfr.EventFactory} and called
+ * through method handles.  If Flight Recorder is not available, every event type is permanently disabled.
+ * 
+ * <p>Callers check {@link #isEnabled()} before doing any work to gather the values for an event.  When Flight
+ * Recorder is not available this is a constant {@code false}, and when it is available but the event is not being
+ * recorded it is the same check that compiled event classes make.
+ * 
+ * <pre>
+ * final Object event = FlightRecorderEvent.PARSE.begin();
+ * ...
+ * FlightRecorderEvent.PARSE.commit(event, tokens, reductions, accepted);
+ * </pre>
+ * 
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+class FlightRecorderEvent {
+    
+    private static final String sourceClass = FlightRecorderEvent.class.getName();
+    
+    private static final Logger logger = Logger.getLogger(sourceClass);
+    
+    private static final String CATEGORY = "LR(1) Parser";
+    
+    /**
+     * {@code jdk.jfr.EventType.isEnabled()}, or {@code null} if Flight Recorder is not available.
+     */
+    private static final MethodHandle IS_ENABLED;
+    
+    /**
+     * {@code jdk.jfr.EventFactory.newEvent()}.
+     */
+    private static final MethodHandle NEW_EVENT;
+    
+    /**
+     * {@code jdk.jfr.Event.begin()}.
+     */
+    private static final MethodHandle BEGIN;
+    
+    /**
+     * {@code jdk.jfr.Event.end()}.
+     */
+    private static final MethodHandle END;
+    
+    /**
+     * {@code jdk.jfr.Event.set(int, Object)}.
+     */
+    private static final MethodHandle SET;
+    
+    /**
+     * {@code jdk.jfr.Event.commit()}.
+     */
+    private static final MethodHandle COMMIT;
+    
+    private static final boolean AVAILABLE;
+    
+    static {
+        final String sourceMethod = "<clinit>";
+        
+        MethodHandle isEnabled = null;
+        MethodHandle newEvent = null;
+        MethodHandle begin = null;
+        MethodHandle end = null;
+        MethodHandle set = null;
+        MethodHandle commit = null;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType");
+            final Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+            final Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            isEnabled = lookup.findVirtual(eventTypeClass, "isEnabled", MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            newEvent = lookup.findVirtual(eventFactoryClass, "newEvent", MethodType.methodType(eventClass))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            begin = lookup.findVirtual(eventClass, "begin", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            end = lookup.findVirtual(eventClass, "end", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            set = lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+            commit = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            logger.logp(Level.FINE, sourceClass, sourceMethod, "Flight Recorder is not available", e);
+            isEnabled = null;
+        }
+        IS_ENABLED = isEnabled;
+        NEW_EVENT = newEvent;
+        BEGIN = begin;
+        END = end;
+        SET = set;
+        COMMIT = commit;
+        AVAILABLE = isEnabled != null;
+    }
+    
+    /**
+     * One phase of generating a parser.  The phases are the nullable, first, and follow computations, the closure
+     * kernels, the parser states, and the parsing tables.
+     */
+    static final FlightRecorderEvent GENERATION_PHASE = new FlightRecorderEvent("org.silnith.grammar.GenerationPhase",
+            "Parser Generation Phase", "One phase of generating a parser from a grammar",
+            new String[] {"phase", "parserKind"},
+            new Class<?>[] {String.class, String.class});
+    
+    /**
+     * One wave of parser states computed by {@link Grammar#createParser(ParserKind)}, for every kind of parser.  Every
+     * state found or changed by the previous wave is advanced over every symbol that can follow it.  For
+     * {@link ParserKind#LALR1} a state is advanced again whenever look-ahead reaches it that it did not have before,
+     * so the {@code states} field counts propagation passes and {@code newStates} counts new LR(0) states.
+     * {@link Grammar#threadedCreateParser(java.util.concurrent.ExecutorService)} has no waves, and records
+     * {@link #PARSER_STATE} events instead.
+     */
+    static final FlightRecorderEvent PARSER_STATE_WAVE = new FlightRecorderEvent(
+            "org.silnith.grammar.ParserStateWave", "Parser State Wave",
+            "Computing the outgoing edges of every parser state found by the previous wave",
+            new String[] {"wave", "states", "edges", "newStates", "closures", "gotos"},
+            new Class<?>[] {int.class, int.class, int.class, int.class, long.class, long.class});
+    
+    /**
+     * One parser state computed by {@link Grammar#threadedCreateParser(java.util.concurrent.ExecutorService)}.
+     */
+    static final FlightRecorderEvent PARSER_STATE = new FlightRecorderEvent("org.silnith.grammar.ParserState",
+            "Parser State", "Computing the outgoing edges of one parser state",
+            new String[] {"edges"},
+            new Class<?>[] {int.class});
+    
+    /**
+     * One call to {@link Parser#parse(Lexer)}, or to a {@link ParserContext}.
+     */
+    static final FlightRecorderEvent PARSE = new FlightRecorderEvent("org.silnith.grammar.Parse", "Parse",
+            "Parsing one sequence of tokens",
+            new String[] {"tokens", "reductions", "accepted"},
+            new Class<?>[] {long.class, long.class, boolean.class});
+    
+    /**
+     * {@link #isEnabled()} of {@link #PARSE}, bound to its event type.  The handle is held in a static final field so
+     * that the JIT compiler can inline it into every parse.  When Flight Recorder is not available it is a constant
+     * {@code false}.
+     */
+    private static final MethodHandle PARSE_IS_ENABLED = PARSE.bindIsEnabled();
+    
+    /**
+     * The {@code jdk.jfr.EventFactory}, or {@code null} if Flight Recorder is not available.
+     */
+    private final Object eventFactory;
+    
+    /**
+     * The {@code jdk.jfr.EventType}, or {@code null} if Flight Recorder is not available.
+     */
+    private final Object eventType;
+    
+    private final int fieldCount;
+    
+    private FlightRecorderEvent(final String name, final String label, final String description,
+            final String[] fieldNames, final Class<?>[] fieldTypes) {
+        super();
+        final String sourceMethod = "FlightRecorderEvent";
+        
+        Object factory = null;
+        Object type = null;
+        if (AVAILABLE) {
+            try {
+                final Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+                final Constructor<?> annotationElementConstructor =
+                        annotationElementClass.getConstructor(Class.class, Object.class);
+                final List<Object> annotations = new ArrayList<>();
+                annotations.add(annotationElementConstructor.newInstance(Class.forName("jdk.jfr.Name"), name));
+                annotations.add(annotationElementConstructor.newInstance(Class.forName("jdk.jfr.Label"), label));
+                annotations.add(annotationElementConstructor.newInstance(Class.forName("jdk.jfr.Description"),
+                        description));
+                annotations.add(annotationElementConstructor.newInstance(Class.forName("jdk.jfr.Category"),
+                        new String[] {CATEGORY}));
+                
+                final Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+                final Constructor<?> valueDescriptorConstructor =
+                        valueDescriptorClass.getConstructor(Class.class, String.class);
+                final List<Object> fields = new ArrayList<>();
+                for (int i = 0; i < fieldNames.length; i++) {
+                    fields.add(valueDescriptorConstructor.newInstance(fieldTypes[i], fieldNames[i]));
+                }
+                
+                final Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+                final Method create = eventFactoryClass.getMethod("create", List.class, List.class);
+                factory = create.invoke(null, annotations, fields);
+                type = eventFactoryClass.getMethod("getEventType").invoke(factory);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                logger.logp(Level.WARNING, sourceClass, sourceMethod, "Cannot define Flight Recorder event " + name,
+                        e);
+                factory = null;
+                type = null;
+            }
+        }
+        this.eventFactory = factory;
+        this.eventType = type;
+        this.fieldCount = fieldNames.length;
+    }
+    
+    private static RuntimeException propagate(final Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        throw new IllegalStateException(throwable);
+    }
+    
+    /**
+     * Returns a method handle that takes no arguments and returns {@link #isEnabled()}, for storing in a static final
+     * field.
+     * 
+     * @return a handle that returns whether this event is being recorded
+     */
+    private MethodHandle bindIsEnabled() {
+        if (eventType == null) {
+            return MethodHandles.constant(boolean.class, false);
+        }
+        return IS_ENABLED.bindTo(eventType);
+    }
+    
+    /**
+     * Returns whether {@link #PARSE} is being recorded.  This is called for every parse, so unlike
+     * {@link #isEnabled()} it does not read the event type from an instance field.  Instance fields are not constants
+     * to the JIT compiler, but a static final method handle is, so a parse that is not being recorded only pays for
+     * the check that compiled event classes make, or nothing at all when Flight Recorder is not available.
+     * 
+     * @return {@code true} if Flight Recorder is available and recording parses
+     */
+    static boolean isParseEnabled() {
+        try {
+            return (boolean) PARSE_IS_ENABLED.invokeExact();
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+    
+    /**
+     * Returns whether this event is being recorded.
+     * 
+     * @return {@code true} if Flight Recorder is available and recording this event
+     */
+    boolean isEnabled() {
+        if (eventType == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_ENABLED.invokeExact(eventType);
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+    
+    /**
+     * Starts timing a new event, if this event is being recorded.
+     * 
+     * @return the new event, or {@code null} if this event is not being recorded
+     */
+    Object begin() {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            final Object event = (Object) NEW_EVENT.invokeExact(eventFactory);
+            BEGIN.invokeExact(event);
+            return event;
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+    
+    /**
+     * Stops timing an event, sets its fields, and commits it to the recording.  Nothing is done if the event is
+     * {@code null}, so the result of {@link #begin()} can always be passed to this.
+     * 
+     * @param event the event returned by {@link #begin()}
+     * @param values the values of the fields, in the order they were declared
+     */
+    void commit(final Object event, final Object... values) {
+        if (event == null) {
+            return;
+        }
+        if (values.length != fieldCount) {
+            throw new IllegalArgumentException("Expected " + fieldCount + " values, got " + values.length);
+        }
+        try {
+            END.invokeExact(event);
+            for (int i = 0; i < values.length; i++) {
+                SET.invokeExact(event, i, values[i]);
+            }
+            COMMIT.invokeExact(event);
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+    
+}
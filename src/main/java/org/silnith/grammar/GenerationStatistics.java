@@ -0,0 +1,235 @@
+package org.silnith.grammar;
+
+/**
+ * Timings and counts collected while a {@link Grammar} generated a {@link Parser}.  These show where the time goes
+ * when generating a parser for a particular grammar, so that a change to the grammar that makes generation much more
+ * expensive can be noticed.
+ * 
+ * <p>Times are wall-clock times in nanoseconds, as measured by {@link System#nanoTime()}.
+ * 
+ * @see Parser#getGenerationStatistics()
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class GenerationStatistics {
+    
+    ParserKind parserKind;
+    
+    long nullableTime;
+    
+    long nullablePasses;
+    
+    long firstTime;
+    
+    long firstPasses;
+    
+    long followTime;
+    
+    long followPasses;
+    
+    long closureKernelTime;
+    
+    long parserStateTime;
+    
+    long parseTableTime;
+    
+    long totalTime;
+    
+    long closureCalls;
+    
+    long closureIterations;
+    
+    long gotoCalls;
+    
+    long duplicateStates;
+    
+    long stateCount;
+    
+    long edgeCount;
+    
+    long canonicalInstances;
+    
+    GenerationStatistics() {
+        super();
+    }
+    
+    /**
+     * Returns the kind of parser that was generated.
+     * 
+     * @return the kind of parser
+     */
+    public ParserKind getParserKind() {
+        return parserKind;
+    }
+    
+    /**
+     * Returns the time spent computing the nullable non-terminals.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getNullableTime() {
+        return nullableTime;
+    }
+    
+    /**
+     * Returns the number of passes over the productions needed to compute the nullable non-terminals.
+     * 
+     * @return the number of passes
+     */
+    public long getNullablePasses() {
+        return nullablePasses;
+    }
+    
+    /**
+     * Returns the time spent computing the first sets.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getFirstTime() {
+        return firstTime;
+    }
+    
+    /**
+     * Returns the number of passes over the productions needed to compute the first sets.
+     * 
+     * @return the number of passes
+     */
+    public long getFirstPasses() {
+        return firstPasses;
+    }
+    
+    /**
+     * Returns the time spent computing the follow sets.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getFollowTime() {
+        return followTime;
+    }
+    
+    /**
+     * Returns the number of passes over the productions needed to compute the follow sets.
+     * 
+     * @return the number of passes
+     */
+    public long getFollowPasses() {
+        return followPasses;
+    }
+    
+    /**
+     * Returns the time spent computing the first sets of production suffixes and the closure kernel of each
+     * non-terminal.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getClosureKernelTime() {
+        return closureKernelTime;
+    }
+    
+    /**
+     * Returns the time spent computing the parser states and the edges between them.  For a canonical LR(1) parser
+     * created by {@link Grammar#createParser(ParserKind)}, the parsing tables are filled in as the states are
+     * computed, so this includes most of the work of building the tables.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getParserStateTime() {
+        return parserStateTime;
+    }
+    
+    /**
+     * Returns the time spent compiling the parser states into parsing tables.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getParseTableTime() {
+        return parseTableTime;
+    }
+    
+    /**
+     * Returns the time spent generating the parser, from start to finish.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+    
+    /**
+     * Returns the number of parser state closures that were calculated.
+     * 
+     * @return the number of closures
+     */
+    public long getClosureCalls() {
+        return closureCalls;
+    }
+    
+    /**
+     * Returns the number of items processed by all closure calculations, including the closure kernels.
+     * 
+     * @return the number of closure iterations
+     */
+    public long getClosureIterations() {
+        return closureIterations;
+    }
+    
+    /**
+     * Returns the number of times a parser state was advanced over a symbol to find the state that it transitions to.
+     * 
+     * @return the number of goto computations
+     */
+    public long getGotoCalls() {
+        return gotoCalls;
+    }
+    
+    /**
+     * Returns the number of goto computations that produced a parser state that had already been found.
+     * 
+     * @return the number of duplicate parser states
+     */
+    public long getDuplicateStates() {
+        return duplicateStates;
+    }
+    
+    /**
+     * Returns the number of parser states in the generated parser.
+     * 
+     * @return the number of parser states
+     */
+    public long getStateCount() {
+        return stateCount;
+    }
+    
+    /**
+     * Returns the number of edges between parser states in the generated parser.
+     * 
+     * @return the number of edges
+     */
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+    
+    /**
+     * Returns the number of canonical objects that were held when generation finished, which is the most that were
+     * held at once.  These are the items, parser states, and edges held by the canonical factories, and for a
+     * canonical LR(1) parser, the parser state kernels.  Canonical factories that hold their instances weakly may
+     * have dropped some of them already.
+     * 
+     * @return the number of canonical objects
+     */
+    public long getCanonicalInstances() {
+        return canonicalInstances;
+    }
+    
+    @Override
+    public String toString() {
+        return "GenerationStatistics [parserKind=" + parserKind + ", nullableTime=" + nullableTime
+                + ", nullablePasses=" + nullablePasses + ", firstTime=" + firstTime + ", firstPasses=" + firstPasses
+                + ", followTime=" + followTime + ", followPasses=" + followPasses + ", closureKernelTime="
+                + closureKernelTime + ", parserStateTime=" + parserStateTime + ", parseTableTime=" + parseTableTime
+                + ", totalTime=" + totalTime + ", closureCalls=" + closureCalls + ", closureIterations="
+                + closureIterations + ", gotoCalls=" + gotoCalls + ", duplicateStates=" + duplicateStates
+                + ", stateCount=" + stateCount + ", edgeCount=" + edgeCount + ", canonicalInstances="
+                + canonicalInstances + "]";
+    }
+    
+}
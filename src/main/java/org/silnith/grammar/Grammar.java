@@ -1,18 +1,28 @@
 package org.silnith.grammar;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -48,14 +58,14 @@ public class Grammar<T extends TerminalSymbol> {
     }
     
     private static class StartSymbol implements NonTerminalSymbol {
-    
+        
         @Override
         public String toString() {
             return "START";
         }
-    
+        
     }
-
+    
     /**
      * A production handler that trivially returns the first element of the right-hand side.
      */
@@ -67,23 +77,98 @@ public class Grammar<T extends TerminalSymbol> {
         }
         
     }
-
+    
+    /**
+     * The first set and nullability of every suffix of a production.  Suffix {@code i} is the list of symbols starting
+     * at index {@code i}, so the last suffix is always empty.
+     * 
+     * @param <V> the concrete type of terminal symbols
+     */
+    private static class ProductionSuffixes<V> {
+        
+        private final List<Set<V>> firstSets;
+        
+        private final boolean[] nullable;
+        
+        public ProductionSuffixes(final List<Set<V>> firstSets, final boolean[] nullable) {
+            super();
+            this.firstSets = firstSets;
+            this.nullable = nullable;
+        }
+        
+        public Set<V> getFirstSet(final int index) {
+            return firstSets.get(index);
+        }
+        
+        public boolean isNullable(final int index) {
+            return nullable[index];
+        }
+        
+    }
+    
+    /**
+     * The LR(0) closure of a non-terminal symbol, which is the items for all the productions that can be reached by
+     * expanding the non-terminal without consuming any input.  Each item has the look-ahead that it gets regardless
+     * of context, and a flag for whether it also inherits the look-ahead that follows the non-terminal.
+     * 
+     * @param <V> the concrete type of terminal symbols
+     */
+    private static class ClosureKernel<V> {
+        
+        private final List<Item> items;
+        
+        private final List<Set<V>> spontaneousLookaheads;
+        
+        private final boolean[] propagated;
+        
+        public ClosureKernel(final List<Item> items, final List<Set<V>> spontaneousLookaheads,
+                final boolean[] propagated) {
+            super();
+            this.items = items;
+            this.spontaneousLookaheads = spontaneousLookaheads;
+            this.propagated = propagated;
+        }
+        
+        public int size() {
+            return items.size();
+        }
+        
+        public Item getItem(final int index) {
+            return items.get(index);
+        }
+        
+        public Set<V> getSpontaneousLookahead(final int index) {
+            return spontaneousLookaheads.get(index);
+        }
+        
+        public boolean isPropagated(final int index) {
+            return propagated[index];
+        }
+        
+    }
+    
     private static final NonTerminalSymbol START = new StartSymbol();
-
+    
     private static final String sourceClass = Grammar.class.getName();
-
+    
     private final Logger logger;
     
     private final ItemFactory itemFactory;
-
+    
     private final LookaheadItemFactory<T> lookaheadItemFactory;
-
+    
     private final ParserStateFactory<T> parserStateFactory;
-
+    
     private final EdgeFactory<T> edgeFactory;
-
+    
     private final SetFactory<T> terminalSetFactory;
     
+    /**
+     * The factory for first, follow, and look-ahead sets.  This is chosen when the grammar is computed, because the
+     * default bit set implementation needs to know the complete lexicon.
+     */
+    private SetFactory<T> lookaheadSetFactory;
+    
     /**
      * The lexicon for the language.
      */
@@ -99,6 +184,12 @@ public class Grammar<T extends TerminalSymbol> {
      */
     private final Map<NonTerminalSymbol, Set<Production>> productions;
     
+    /**
+     * Every production paired with its non-terminal, as an item at position zero, in the order the productions were
+     * added.  Saved parsers identify productions by their position in this list.
+     */
+    private final List<Item> productionList;
+    
     private NonTerminalSymbol startSymbol;
     
     private T endOfFileSymbol;
@@ -118,43 +209,121 @@ public class Grammar<T extends TerminalSymbol> {
      */
     private final Map<Symbol, Set<T>> follow;
     
+    /**
+     * The first sets and nullability of the suffixes of each production.  These only depend on the symbols of the
+     * production, so they are computed once per grammar rather than once per closure.
+     */
+    private final Map<Production, ProductionSuffixes<T>> productionSuffixes;
+    
+    /**
+     * The closure kernel for each non-terminal symbol.  Only the propagated look-ahead depends on the parser state, so
+     * these are computed once per grammar and merged into each closure.
+     */
+    private final Map<NonTerminalSymbol, ClosureKernel<T>> closureKernels;
+    
     private final Set<ParserState<T>> parserStates;
-
+    
     private final Set<Edge<T>> edges;
-
+    
+    /**
+     * The number of items processed by all closure calculations, including the closure kernels.  Closures may be
+     * calculated concurrently by {@link #threadedCreateParser(ExecutorService)}.
+     */
+    private final AtomicLong closureIterations;
+    
+    /**
+     * The number of closures calculated.
+     */
+    private final AtomicLong closureCalls;
+    
+    /**
+     * The number of times a parser state was advanced over a symbol.
+     */
+    private final AtomicLong gotoCalls;
+    
     /**
-     * Creates a new grammar.
+     * The number of goto computations that produced a parser state that had already been found.
+     */
+    private final AtomicLong duplicateStates;
+    
+    /**
+     * The statistics for the parser being generated.  Each call that creates a parser starts a new one.
+     */
+    private GenerationStatistics statistics;
+    
+    /**
+     * Creates a new grammar.  The first, follow, and look-ahead sets will be bit sets over a dense numbering of the
+     * lexicon, which performs about as well as an {@link EnumSetFactory} for any type of terminal symbol.
      */
     public Grammar() {
         this(new DefaultSetFactory<T>());
     }
     
     /**
-     * Creates a new grammar.
+     * Creates a new grammar.  Items, parser states, and edges are canonicalized by
+     * {@linkplain Canonicalization#CONCURRENT concurrent} factories.  Earlier versions always used
+     * {@linkplain Canonicalization#SYNCHRONIZED synchronized} factories, which serialize all callers.  To keep that
+     * behavior, use {@link #Grammar(SetFactory, Canonicalization)}.
      * 
      * @param terminalSetFactory a factory for sets of terminal symbols
      */
     public Grammar(final SetFactory<T> terminalSetFactory) {
+        this(terminalSetFactory, Canonicalization.CONCURRENT);
+    }
+    
+    /**
+     * Creates a new grammar that uses the same kind of canonical factory for items, parser states, and edges.
+     * 
+     * @param terminalSetFactory a factory for sets of terminal symbols
+     * @param canonicalization the kind of canonical factory to use
+     */
+    public Grammar(final SetFactory<T> terminalSetFactory, final Canonicalization canonicalization) {
+        this(terminalSetFactory, canonicalization, canonicalization, canonicalization, canonicalization);
+    }
+    
+    /**
+     * Creates a new grammar, choosing the kind of canonical factory separately for each kind of object created while
+     * generating a parser.
+     * 
+     * @param terminalSetFactory a factory for sets of terminal symbols
+     * @param itemCanonicalization the kind of canonical factory for items
+     * @param lookaheadItemCanonicalization the kind of canonical factory for items with look-ahead sets
+     * @param parserStateCanonicalization the kind of canonical factory for parser states
+     * @param edgeCanonicalization the kind of canonical factory for edges between parser states
+     */
+    public Grammar(final SetFactory<T> terminalSetFactory, final Canonicalization itemCanonicalization,
+            final Canonicalization lookaheadItemCanonicalization, final Canonicalization parserStateCanonicalization,
+            final Canonicalization edgeCanonicalization) {
         super();
-        if (terminalSetFactory == null) {
+        if (terminalSetFactory == null || itemCanonicalization == null || lookaheadItemCanonicalization == null
+                || parserStateCanonicalization == null || edgeCanonicalization == null) {
             throw new IllegalArgumentException();
         }
         this.logger = Logger.getLogger(sourceClass);
-        this.itemFactory = new ItemFactory();
-        this.lookaheadItemFactory = new LookaheadItemFactory<>();
-        this.parserStateFactory = new ParserStateFactory<>();
-        this.edgeFactory = new EdgeFactory<>();
+        this.itemFactory = new ItemFactory(itemCanonicalization.<Item>createFactory());
+        this.lookaheadItemFactory = new LookaheadItemFactory<>(lookaheadItemCanonicalization.<LookaheadItem<T>>createFactory());
+        this.parserStateFactory = new ParserStateFactory<>(parserStateCanonicalization.<ParserState<T>>createFactory());
+        this.edgeFactory = new EdgeFactory<>(edgeCanonicalization.<Edge<T>>createFactory());
         this.terminalSetFactory = terminalSetFactory;
+        this.lookaheadSetFactory = terminalSetFactory;
         this.lexicon = this.terminalSetFactory.getNewSet();
         this.nonTerminalSymbols = new HashSet<>();
         this.productions = new HashMap<>();
+        this.productionList = new ArrayList<>();
         this.startSymbol = null;
         this.endOfFileSymbol = null;
         this.nullable = new HashSet<>();
         this.first = new HashMap<>();
         this.follow = new HashMap<>();
+        this.productionSuffixes = new HashMap<>();
+        this.closureKernels = new HashMap<>();
         this.parserStates = new HashSet<>();
         this.edges = new HashSet<>();
+        this.closureIterations = new AtomicLong();
+        this.closureCalls = new AtomicLong();
+        this.gotoCalls = new AtomicLong();
+        this.duplicateStates = new AtomicLong();
+        this.statistics = new GenerationStatistics();
     }
     
     /**
@@ -207,6 +376,7 @@ public class Grammar<T extends TerminalSymbol> {
         lexicon.clear();
         nonTerminalSymbols.clear();
         productions.clear();
+        productionList.clear();
         
         startSymbol = null;
         endOfFileSymbol = null;
@@ -214,6 +384,8 @@ public class Grammar<T extends TerminalSymbol> {
         nullable.clear();
         first.clear();
         follow.clear();
+        productionSuffixes.clear();
+        closureKernels.clear();
         
         nullableComputed = false;
         firstComputed = false;
@@ -254,7 +426,9 @@ public class Grammar<T extends TerminalSymbol> {
             productionSet = new HashSet<Production>();
             productions.put(nonTerminalSymbol, productionSet);
         }
-        productionSet.add(production);
+        if (productionSet.add(production)) {
+            productionList.add(itemFactory.createItem(nonTerminalSymbol, production, 0));
+        }
         
         nonTerminalSymbols.add(nonTerminalSymbol);
         addSymbols(symbols);
@@ -287,6 +461,57 @@ public class Grammar<T extends TerminalSymbol> {
         lexicon.add(this.endOfFileSymbol);
     }
     
+    /**
+     * Returns the productions in the order they were added.
+     * 
+     * @return the productions, as items at position zero
+     */
+    List<Item> getProductions() {
+        return Collections.unmodifiableList(productionList);
+    }
+    
+    /**
+     * Returns a fingerprint of the grammar.  This is a 64-bit hash of the start symbol, the end-of-file symbol, and
+     * every production in the order it was added, using the {@link Object#toString()} of each symbol.  Grammars built
+     * the same way have the same fingerprint, so it can be used to detect a saved parser that is out of date.
+     * 
+     * @return the grammar fingerprint
+     * @see Parser#load(java.io.InputStream, Grammar)
+     */
+    public long getFingerprint() {
+        /*
+         * FNV-1a, which is stable across processes unlike the hash codes of most symbols.
+         */
+        long hash = 0xcbf29ce484222325L;
+        hash = fingerprint(hash, "start " + startSymbol);
+        hash = fingerprint(hash, "eof " + endOfFileSymbol);
+        for (final Item item : productionList) {
+            hash = fingerprint(hash, "production " + item.getTarget());
+            for (final Symbol symbol : item.getProduction().getSymbols()) {
+                if (symbol instanceof TerminalSymbol) {
+                    hash = fingerprint(hash, "terminal " + symbol);
+                } else {
+                    hash = fingerprint(hash, "non-terminal " + symbol);
+                }
+            }
+        }
+        return hash;
+    }
+    
+    private static long fingerprint(final long hash, final String value) {
+        long result = hash;
+        for (int i = 0; i < value.length(); i++) {
+            result ^= value.charAt(i);
+            result *= 0x100000001b3L;
+        }
+        /*
+         * Separate the values so that "ab" followed by "c" differs from "a" followed by "bc".
+         */
+        result ^= 0xffff;
+        result *= 0x100000001b3L;
+        return result;
+    }
+    
     /**
      * Adds all symbols to the {@link #lexicon} and {@link #nonTerminalSymbols}.
      * 
@@ -324,9 +549,11 @@ public class Grammar<T extends TerminalSymbol> {
         
         nullable.clear();
         
+        long passes = 0;
         boolean changed;
         do {
             changed = false;
+            passes++;
             for (final Map.Entry<NonTerminalSymbol, Set<Production>> entry : productions.entrySet()) {
                 final NonTerminalSymbol nonTerminal = entry.getKey();
                 if (nullable.contains(nonTerminal)) {
@@ -344,6 +571,7 @@ public class Grammar<T extends TerminalSymbol> {
                 }
             }
         } while (changed);
+        statistics.nullablePasses = passes;
         
         logger.logp(Level.FINE, sourceClass, sourceMethod, "nullable set: {0}", nullable);
         
@@ -363,17 +591,19 @@ public class Grammar<T extends TerminalSymbol> {
         
         first.clear();
         for (final T terminalSymbol : lexicon) {
-            final Set<T> newSet = terminalSetFactory.getNewSet();
+            final Set<T> newSet = lookaheadSetFactory.getNewSet();
             newSet.add(terminalSymbol);
             first.put(terminalSymbol, newSet);
         }
         for (final NonTerminalSymbol nonTerminalSymbol : nonTerminalSymbols) {
-            first.put(nonTerminalSymbol, terminalSetFactory.getNewSet());
+            first.put(nonTerminalSymbol, lookaheadSetFactory.getNewSet());
         }
         
+        long passes = 0;
         boolean changed;
         do {
             changed = false;
+            passes++;
             for (final Map.Entry<NonTerminalSymbol, Set<Production>> entry : productions.entrySet()) {
                 final NonTerminalSymbol nonTerminal = entry.getKey();
                 final Set<Production> productions = entry.getValue();
@@ -395,6 +625,7 @@ public class Grammar<T extends TerminalSymbol> {
                 }
             }
         } while (changed);
+        statistics.firstPasses = passes;
         
         logger.logp(Level.FINE, sourceClass, sourceMethod, "first sets: {0}", first);
         
@@ -414,15 +645,17 @@ public class Grammar<T extends TerminalSymbol> {
         
         follow.clear();
         for (final T terminalSymbol : lexicon) {
-            follow.put(terminalSymbol, terminalSetFactory.getNewSet());
+            follow.put(terminalSymbol, lookaheadSetFactory.getNewSet());
         }
         for (final NonTerminalSymbol nonTerminalSymbol : nonTerminalSymbols) {
-            follow.put(nonTerminalSymbol, terminalSetFactory.getNewSet());
+            follow.put(nonTerminalSymbol, lookaheadSetFactory.getNewSet());
         }
         
+        long passes = 0;
         boolean changed;
         do {
             changed = false;
+            passes++;
             for (final Map.Entry<NonTerminalSymbol, Set<Production>> entry : productions.entrySet()) {
                 final NonTerminalSymbol nonTerminal = entry.getKey();
                 final Set<Production> productions = entry.getValue();
@@ -452,7 +685,7 @@ public class Grammar<T extends TerminalSymbol> {
                         final ListIterator<Symbol> rangeEndIter = productionSymbols.listIterator(startIndex + 1);
                         while (rangeEndIter.hasNext()) {
                             final Symbol endSymbol = rangeEndIter.next();
-
+                            
                             assert firstComputed;
                             final boolean b = followSet.addAll(first.get(endSymbol));
                             changed = b || changed;
@@ -465,6 +698,7 @@ public class Grammar<T extends TerminalSymbol> {
                 }
             }
         } while (changed);
+        statistics.followPasses = passes;
         
         logger.logp(Level.FINE, sourceClass, sourceMethod, "follow sets: {0}", follow);
         
@@ -473,17 +707,258 @@ public class Grammar<T extends TerminalSymbol> {
         logger.exiting(sourceClass, sourceMethod);
     }
     
+    /**
+     * Compute the first set and nullability of every suffix of every production.
+     */
+    private void computeProductionSuffixes() {
+        final String sourceMethod = "computeProductionSuffixes";
+        logger.entering(sourceClass, sourceMethod);
+        
+        productionSuffixes.clear();
+        for (final Set<Production> productionsForSymbol : productions.values()) {
+            for (final Production production : productionsForSymbol) {
+                if ( !productionSuffixes.containsKey(production)) {
+                    productionSuffixes.put(production, createProductionSuffixes(production));
+                }
+            }
+        }
+        
+        logger.logp(Level.FINE, sourceClass, sourceMethod, "productions with suffixes: {0}", productionSuffixes.size());
+        
+        logger.exiting(sourceClass, sourceMethod);
+    }
+    
+    private ProductionSuffixes<T> createProductionSuffixes(final Production production) {
+        final List<Symbol> symbols = production.getSymbols();
+        final int length = symbols.size();
+        
+        final List<Set<T>> firstSets = new ArrayList<>(Collections.<Set<T>>nCopies(length + 1, null));
+        final boolean[] suffixNullable = new boolean[length + 1];
+        
+        firstSets.set(length, lookaheadSetFactory.getNewSet());
+        suffixNullable[length] = true;
+        /*
+         * Work backwards, so each suffix is the first set of its first symbol combined with the suffix after it if the
+         * first symbol is nullable.
+         */
+        for (int i = length - 1; i >= 0; i--) {
+            final Symbol symbol = symbols.get(i);
+            
+            assert firstComputed;
+            final Set<T> firstSet = lookaheadSetFactory.getNewSet(first.get(symbol));
+            
+            assert nullableComputed;
+            if (nullable.contains(symbol)) {
+                firstSet.addAll(firstSets.get(i + 1));
+                suffixNullable[i] = suffixNullable[i + 1];
+            } else {
+                suffixNullable[i] = false;
+            }
+            firstSets.set(i, firstSet);
+        }
+        
+        return new ProductionSuffixes<>(firstSets, suffixNullable);
+    }
+    
+    /**
+     * Returns the suffix information for a production.  The synthetic start production is not part of the grammar, so
+     * it is computed on demand.
+     * 
+     * @param production the production
+     * @return the first sets and nullability of the suffixes of the production
+     */
+    private ProductionSuffixes<T> getProductionSuffixes(final Production production) {
+        final ProductionSuffixes<T> suffixes = productionSuffixes.get(production);
+        if (suffixes == null) {
+            return createProductionSuffixes(production);
+        }
+        return suffixes;
+    }
+    
+    /**
+     * Compute the closure kernel for every non-terminal symbol.
+     */
+    private void computeClosureKernels() {
+        final String sourceMethod = "computeClosureKernels";
+        logger.entering(sourceClass, sourceMethod);
+        
+        closureKernels.clear();
+        long kernelItems = 0;
+        for (final NonTerminalSymbol nonTerminalSymbol : productions.keySet()) {
+            final ClosureKernel<T> kernel = createClosureKernel(nonTerminalSymbol);
+            closureKernels.put(nonTerminalSymbol, kernel);
+            kernelItems += kernel.size();
+        }
+        
+        logger.logp(Level.FINE, sourceClass, sourceMethod, "closure kernels: {0}, total items: {1}", new Object[] {closureKernels.size(), kernelItems});
+        
+        logger.exiting(sourceClass, sourceMethod);
+    }
+    
+    private ClosureKernel<T> createClosureKernel(final NonTerminalSymbol nonTerminalSymbol) {
+        final Map<Item, Set<T>> spontaneousLookaheads = new LinkedHashMap<>();
+        final Set<Item> propagated = new HashSet<>();
+        /*
+         * Items whose look-ahead has changed since they were last processed.  Only these can add anything new to
+         * the kernel, so each item is processed once plus once more for every time its look-ahead grows.
+         */
+        final Deque<Item> worklist = new ArrayDeque<>();
+        final Set<Item> queued = new HashSet<>();
+        
+        for (final Production production : productions.get(nonTerminalSymbol)) {
+            final Item item = itemFactory.createItem(nonTerminalSymbol, production, 0);
+            spontaneousLookaheads.put(item, lookaheadSetFactory.getNewSet());
+            propagated.add(item);
+            if (queued.add(item)) {
+                worklist.add(item);
+            }
+        }
+        
+        long iterations = 0;
+        while ( !worklist.isEmpty()) {
+            final Item item = worklist.remove();
+            queued.remove(item);
+            iterations++;
+            
+            if (item.isComplete()) {
+                continue;
+            }
+            
+            final Symbol nextSymbol = item.getNextSymbol();
+            if (!(nextSymbol instanceof NonTerminalSymbol)) {
+                continue;
+            }
+            
+            final NonTerminalSymbol nextNonTerminalSymbol = (NonTerminalSymbol) nextSymbol;
+            /*
+             * Every item in the kernel is at the start of its production.
+             */
+            assert item.getParserPosition() == 0;
+            final ProductionSuffixes<T> suffixes = getProductionSuffixes(item.getProduction());
+            final Set<T> firstSetOfRemainder = suffixes.getFirstSet(1);
+            final boolean remainderIsNullable = suffixes.isNullable(1);
+            
+            for (final Production production : productions.get(nextNonTerminalSymbol)) {
+                final Item newItem = itemFactory.createItem(nextNonTerminalSymbol, production, 0);
+                
+                final Set<T> newItemLookahead;
+                boolean changed;
+                if (spontaneousLookaheads.containsKey(newItem)) {
+                    newItemLookahead = spontaneousLookaheads.get(newItem);
+                    changed = false;
+                } else {
+                    newItemLookahead = lookaheadSetFactory.getNewSet();
+                    spontaneousLookaheads.put(newItem, newItemLookahead);
+                    changed = true;
+                }
+                
+                changed = newItemLookahead.addAll(firstSetOfRemainder) || changed;
+                if (remainderIsNullable) {
+                    changed = newItemLookahead.addAll(spontaneousLookaheads.get(item)) || changed;
+                    if (propagated.contains(item)) {
+                        changed = propagated.add(newItem) || changed;
+                    }
+                }
+                
+                if (changed && queued.add(newItem)) {
+                    worklist.add(newItem);
+                }
+            }
+        }
+        closureIterations.addAndGet(iterations);
+        
+        final int size = spontaneousLookaheads.size();
+        final List<Item> kernelItems = new ArrayList<>(size);
+        final List<Set<T>> kernelLookaheads = new ArrayList<>(size);
+        final boolean[] kernelPropagated = new boolean[size];
+        for (final Map.Entry<Item, Set<T>> entry : spontaneousLookaheads.entrySet()) {
+            final Item item = entry.getKey();
+            kernelPropagated[kernelItems.size()] = propagated.contains(item);
+            kernelItems.add(item);
+            kernelLookaheads.add(entry.getValue());
+        }
+        
+        return new ClosureKernel<>(kernelItems, kernelLookaheads, kernelPropagated);
+    }
+    
+    private ClosureKernel<T> getClosureKernel(final NonTerminalSymbol nonTerminalSymbol) {
+        final ClosureKernel<T> kernel = closureKernels.get(nonTerminalSymbol);
+        if (kernel == null) {
+            throw new IllegalStateException("No productions for non-terminal: " + nonTerminalSymbol);
+        }
+        return kernel;
+    }
+    
     protected void compute() {
         final String sourceMethod = "compute";
         logger.entering(sourceClass, sourceMethod);
         
+        if (terminalSetFactory.getClass() == DefaultSetFactory.class) {
+            /*
+             * The lexicon cannot change while the sets are being computed, so the terminals can be numbered densely
+             * and every set represented as a bit set over that numbering.
+             */
+            lookaheadSetFactory = new TerminalBitSetFactory<>(lexicon);
+        } else {
+            lookaheadSetFactory = terminalSetFactory;
+        }
+        
+        final long startTime = System.nanoTime();
+        Object event = beginPhase();
         computeNullable();
+        endPhase(event, "nullable");
+        final long nullableTime = System.nanoTime();
+        event = beginPhase();
         computeFirst();
+        endPhase(event, "first");
+        final long firstTime = System.nanoTime();
+        event = beginPhase();
         computeFollow();
+        endPhase(event, "follow");
+        final long followTime = System.nanoTime();
+        
+        statistics.nullableTime = nullableTime - startTime;
+        statistics.firstTime = firstTime - nullableTime;
+        statistics.followTime = followTime - firstTime;
         
         logger.exiting(sourceClass, sourceMethod);
     }
     
+    /**
+     * Computes the first sets of the production suffixes and the closure kernels as {@link Item} objects, for the
+     * parser kinds that build {@link ParserState} objects.  The canonical LR(1) parser does not need these, because
+     * its {@link CompactParserBuilder} computes its own encoded copies.
+     */
+    private void computeObjectClosureKernels() {
+        final long startTime = System.nanoTime();
+        final Object event = beginPhase();
+        computeProductionSuffixes();
+        computeClosureKernels();
+        endPhase(event, "closure kernels");
+        statistics.closureKernelTime = System.nanoTime() - startTime;
+    }
+    
+    /**
+     * Starts a Flight Recorder event for one phase of generating a parser.
+     * 
+     * @return the event, or {@code null} if generation phases are not being recorded
+     */
+    private Object beginPhase() {
+        return FlightRecorderEvent.GENERATION_PHASE.begin();
+    }
+    
+    /**
+     * Commits a Flight Recorder event for one phase of generating a parser.
+     * 
+     * @param event the event returned by {@link #beginPhase()}
+     * @param phase the name of the phase
+     */
+    private void endPhase(final Object event, final String phase) {
+        if (event != null) {
+            FlightRecorderEvent.GENERATION_PHASE.commit(event, phase, String.valueOf(statistics.parserKind));
+        }
+    }
+    
     /**
      * Calculates a new parser state by taking an existing state and one symbol, finding all items in the state that
      * would be advanced by that symbol, and for those items creating new items that are advanced by that one symbol.
@@ -497,6 +972,8 @@ public class Grammar<T extends TerminalSymbol> {
         final String sourceMethod = "calculateGoto";
         logger.entering(sourceClass, sourceMethod, new Object[] {itemSet, symbol});
         
+        gotoCalls.incrementAndGet();
+        
         final Set<LookaheadItem<T>> newItemSet = new HashSet<>(itemSet.size());
         
         /*
@@ -530,6 +1007,8 @@ public class Grammar<T extends TerminalSymbol> {
         final String sourceMethod = "calculateClosure";
         logger.entering(sourceClass, sourceMethod, items);
         
+        closureCalls.incrementAndGet();
+        
         /*
          * The canonical algorithm creates look-ahead items that are composed of a single item
          * and a single look-ahead terminal.  This modifies the classic algorithm by consolidating
@@ -550,106 +1029,74 @@ public class Grammar<T extends TerminalSymbol> {
             final Item item = lookaheadItem.getItem();
             final Set<T> lookaheadSet = lookaheadItem.getLookaheadSet();
             
-            itemLookaheadMap.put(item, terminalSetFactory.getNewSet(lookaheadSet));
+            if (itemLookaheadMap.containsKey(item)) {
+                itemLookaheadMap.get(item).addAll(lookaheadSet);
+            } else {
+                itemLookaheadMap.put(item, lookaheadSetFactory.getNewSet(lookaheadSet));
+            }
         }
-    
-        final Map<Item, Set<T>> additions = new HashMap<Item, Set<T>>();
         
-        boolean changed;
-        do {
-            additions.clear();
+        /*
+         * Look-ahead sets combine by union, so the closure of a set of items is the union of the closures of each
+         * item on its own.  Each of those is the precomputed kernel for the next symbol of the item, with the
+         * propagated look-ahead filled in.
+         */
+        long iterations = 0;
+        for (final LookaheadItem<T> lookaheadItem : items) {
+            final Item item = lookaheadItem.getItem();
+            
+            if (item.isComplete()) {
+                continue;
+            }
+            
+            final Symbol nextSymbol = item.getNextSymbol();
+            if (!(nextSymbol instanceof NonTerminalSymbol)) {
+                continue;
+            }
+            
+            /*
+             * Given an item and a look-ahead set, get all possible sequences of symbols that could follow
+             * the current symbol in the item.  This is the production from after the current symbol to
+             * the end, appended by each symbol in the look-ahead set.
+             */
+            final int nextSymbolIndex = item.getParserPosition() + 1;
             
-            logger.logp(Level.FINEST, sourceClass, sourceMethod, "items in closure: {0}", itemLookaheadMap.size());
+            assert nextSymbolIndex <= item.getProduction().getSymbols().size();
             
             /*
-             * Go through all the items in the nascent parser state.
-             * If the next symbol in an item is a non-terminal, then all productions that can be
-             * reduced to that non-terminal need to be added to the potential parser state.
+             * The remainder may be empty, in which case its first set is empty and it is nullable.
              */
-            for (final Map.Entry<Item, Set<T>> entry : itemLookaheadMap.entrySet()) {
-                final Item item = entry.getKey();
-                final Set<T> lookaheadSet = entry.getValue();
+            final ProductionSuffixes<T> suffixes = getProductionSuffixes(item.getProduction());
+            final Set<T> propagatedLookahead;
+            if (suffixes.isNullable(nextSymbolIndex)) {
+                propagatedLookahead = lookaheadSetFactory.getNewSet(suffixes.getFirstSet(nextSymbolIndex));
+                propagatedLookahead.addAll(lookaheadItem.getLookaheadSet());
+            } else {
+                propagatedLookahead = suffixes.getFirstSet(nextSymbolIndex);
+            }
+            
+            final ClosureKernel<T> kernel = getClosureKernel((NonTerminalSymbol) nextSymbol);
+            for (int i = 0; i < kernel.size(); i++) {
+                final Item newItem = kernel.getItem(i);
                 
-                if (item.isComplete()) {
-                    continue;
+                final Set<T> newItemLookahead;
+                if (itemLookaheadMap.containsKey(newItem)) {
+                    newItemLookahead = itemLookaheadMap.get(newItem);
+                } else {
+                    newItemLookahead = lookaheadSetFactory.getNewSet();
+                    itemLookaheadMap.put(newItem, newItemLookahead);
                 }
                 
-                final Symbol nextSymbol = item.getNextSymbol();
-                if (!(nextSymbol instanceof NonTerminalSymbol)) {
-                    continue;
-                }
-                
-                final NonTerminalSymbol nextNonTerminalSymbol = (NonTerminalSymbol) nextSymbol;
-                /*
-                 * Given an item and a look-ahead set, get all possible sequences of symbols that could follow
-                 * the current symbol in the item.  This is the production from after the current symbol to
-                 * the end, appended by each symbol in the look-ahead set.
-                 */
-                final List<Symbol> symbols = item.getProduction().getSymbols();
-                
-                final int nextSymbolIndex = item.getParserPosition() + 1;
-                
-                assert nextSymbolIndex <= symbols.size();
-                
-                final Set<T> firstSetOfRemainder = terminalSetFactory.getNewSet();
-                
-                boolean remainderIsNullable = true;
-                /*
-                 * The subList may be an empty list.
-                 */
-                for (final Symbol symbol : symbols.subList(nextSymbolIndex, symbols.size())) {
-                    
-                    assert firstComputed;
-                    firstSetOfRemainder.addAll(first.get(symbol));
-                    
-                    assert nullableComputed;
-                    if (!nullable.contains(symbol)) {
-                        remainderIsNullable = false;
-                        break;
-                    }
-                }
-    
-                /*
-                 * Add all the productions for the non-terminal to the parser state.
-                 */
-                for (final Production production : productions.get(nextNonTerminalSymbol)) {
-                    final Item newItem = itemFactory.createItem(nextNonTerminalSymbol, production, 0);
-                    
-                    /*
-                     * The new items added need look-ahead sets.  The look-ahead for each item is
-                     * the first set of everything that comes after the next symbol in the item.
-                     */
-                    if (!additions.containsKey(newItem)) {
-                        additions.put(newItem, terminalSetFactory.getNewSet());
-                    }
-                    final Set<T> newItemLookahead = additions.get(newItem);
-                    
-                    newItemLookahead.addAll(firstSetOfRemainder);
-                    if (remainderIsNullable) {
-                        newItemLookahead.addAll(lookaheadSet);
-                    }
+                newItemLookahead.addAll(kernel.getSpontaneousLookahead(i));
+                if (kernel.isPropagated(i)) {
+                    newItemLookahead.addAll(propagatedLookahead);
                 }
             }
-            
-            logger.logp(Level.FINEST, sourceClass, sourceMethod, "items to add to closure: {0}", additions.size());
-            
-            changed = false;
-            
-            for (final Map.Entry<Item, Set<T>> entry : additions.entrySet()) {
-                final Item item = entry.getKey();
-                final Set<T> lookahead = entry.getValue();
-                
-                if (!itemLookaheadMap.containsKey(item)) {
-                    itemLookaheadMap.put(item, lookahead);
-                    
-                    changed = true;
-                } else {
-                    final boolean b = itemLookaheadMap.get(item).addAll(lookahead);
-                    
-                    changed = b || changed;
-                }
-            }
-        } while (changed);
+            iterations += kernel.size();
+        }
+        closureIterations.addAndGet(iterations);
+        
+        logger.logp(Level.FINEST, sourceClass, sourceMethod, "items in closure: {0}, iterations: {1}", new Object[] {itemLookaheadMap.size(), iterations});
         
         /*
          * The closure is complete.  Convert it to a proper parser state.
@@ -713,7 +1160,7 @@ public class Grammar<T extends TerminalSymbol> {
             
             newEdges.add(newEdge);
         }
-    
+        
         logger.exiting(sourceClass, sourceMethod, newEdges);
         return newEdges;
     }
@@ -724,9 +1171,13 @@ public class Grammar<T extends TerminalSymbol> {
         
         Set<ParserState<T>> pending = Collections.singleton(startState);
         
+        int wave = 0;
         while ( !pending.isEmpty()) {
             logger.logp(Level.FINE, sourceClass, sourceMethod, "parser states to compute: {0}", pending.size());
-
+            
+            final Object event = FlightRecorderEvent.PARSER_STATE_WAVE.begin();
+            final long waveClosureCalls = closureCalls.get();
+            final long waveGotoCalls = gotoCalls.get();
             final Set<Edge<T>> newEdges = new HashSet<>(pending.size());
             for (final ParserState<T> parserState : pending) {
                 final Set<Edge<T>> newEdgesForState = computeOutgoingEdges(parserState);
@@ -735,7 +1186,7 @@ public class Grammar<T extends TerminalSymbol> {
             
             parserStates.addAll(pending);
             edges.addAll(newEdges);
-
+            
             final Set<ParserState<T>> newParserStates = new HashSet<>(newEdges.size());
             for (final Edge<T> edge : newEdges) {
                 newParserStates.add(edge.getFinalState());
@@ -743,8 +1194,16 @@ public class Grammar<T extends TerminalSymbol> {
             
             logger.logp(Level.FINE, sourceClass, sourceMethod, "total parser states: {0}, total edges: {1}", new Object[] {parserStates.size(), edges.size()});
             
+            final int stateCount = pending.size();
             pending = newParserStates;
             pending.removeAll(parserStates);
+            duplicateStates.addAndGet(newEdges.size() - pending.size());
+            
+            if (event != null) {
+                FlightRecorderEvent.PARSER_STATE_WAVE.commit(event, wave, stateCount, newEdges.size(), pending.size(),
+                        closureCalls.get() - waveClosureCalls, gotoCalls.get() - waveGotoCalls);
+            }
+            wave++;
         }
         
         logger.logp(Level.INFO, sourceClass, sourceMethod, "Parser states: {0}, Edges: {1}", new Object[] {parserStates.size(), edges.size()});
@@ -753,161 +1212,806 @@ public class Grammar<T extends TerminalSymbol> {
     }
     
     /**
-     * Creates a parser for the grammar.  This is called after all calls to
+     * Computes the LALR(1) parser states.  These are the LR(0) states, identified by the items in their kernels
+     * without look-ahead.  The look-ahead for a kernel item is the union of the look-ahead that reaches it along every
+     * edge into the state, so look-ahead is propagated along the edges until nothing changes.
+     * 
+     * @param startState the initial parser state
+     */
+    private void computeLALRParseStates(final ParserState<T> startState) {
+        final String sourceMethod = "computeLALRParseStates";
+        logger.entering(sourceClass, sourceMethod, startState);
+        
+        final Map<Set<Item>, Map<Item, Set<T>>> kernels = new HashMap<>();
+        /*
+         * States whose kernel look-ahead has changed since their edges were last followed.
+         */
+        final Deque<Set<Item>> worklist = new ArrayDeque<>();
+        final Set<Set<Item>> queued = new HashSet<>();
+        
+        final Map<Item, Set<T>> startKernel = new HashMap<>();
+        for (final LookaheadItem<T> lookaheadItem : startState.getItems()) {
+            startKernel.put(lookaheadItem.getItem(), lookaheadSetFactory.getNewSet(lookaheadItem.getLookaheadSet()));
+        }
+        final Set<Item> startCore = new HashSet<>(startKernel.keySet());
+        kernels.put(startCore, startKernel);
+        queued.add(startCore);
+        worklist.add(startCore);
+        
+        /*
+         * A wave is every state that was queued when the previous wave finished.  States whose look-ahead changes
+         * during a wave are queued again for the next one.
+         */
+        long passes = 0;
+        int wave = 0;
+        while ( !worklist.isEmpty()) {
+            final Object event = FlightRecorderEvent.PARSER_STATE_WAVE.begin();
+            final long waveClosureCalls = closureCalls.get();
+            final long waveGotoCalls = gotoCalls.get();
+            final int waveSize = worklist.size();
+            final int waveStateCount = kernels.size();
+            int waveEdgeCount = 0;
+            for (int i = 0; i < waveSize; i++) {
+                final Set<Item> core = worklist.remove();
+                queued.remove(core);
+                passes++;
+                
+                final ParserState<T> parserState = calculateClosure(createLookaheadItems(kernels.get(core)));
+                
+                final Collection<Map<Item, Set<T>>> gotoKernels = computeGotoKernels(parserState).values();
+                waveEdgeCount += gotoKernels.size();
+                for (final Map<Item, Set<T>> gotoKernel : gotoKernels) {
+                    final Set<Item> gotoCore = gotoKernel.keySet();
+                    final Map<Item, Set<T>> existingKernel = kernels.get(gotoCore);
+                    
+                    final Set<Item> changedCore;
+                    if (existingKernel == null) {
+                        changedCore = new HashSet<>(gotoCore);
+                        kernels.put(changedCore, gotoKernel);
+                    } else {
+                        duplicateStates.incrementAndGet();
+                        boolean changed = false;
+                        for (final Map.Entry<Item, Set<T>> entry : gotoKernel.entrySet()) {
+                            final boolean b = existingKernel.get(entry.getKey()).addAll(entry.getValue());
+                            changed = b || changed;
+                        }
+                        changedCore = changed ? gotoCore : null;
+                    }
+                    
+                    if (changedCore != null && queued.add(changedCore)) {
+                        worklist.add(changedCore);
+                    }
+                }
+            }
+            
+            if (event != null) {
+                FlightRecorderEvent.PARSER_STATE_WAVE.commit(event, wave, waveSize, waveEdgeCount,
+                        kernels.size() - waveStateCount, closureCalls.get() - waveClosureCalls,
+                        gotoCalls.get() - waveGotoCalls);
+            }
+            wave++;
+        }
+        
+        logger.logp(Level.FINE, sourceClass, sourceMethod, "LR(0) states: {0}, propagation passes: {1}", new Object[] {kernels.size(), passes});
+        
+        /*
+         * The look-ahead sets are final, so create the real parser states and the edges between them.
+         */
+        final Map<Set<Item>, ParserState<T>> lalrStates = new HashMap<>(kernels.size() * 2);
+        for (final Map.Entry<Set<Item>, Map<Item, Set<T>>> entry : kernels.entrySet()) {
+            lalrStates.put(entry.getKey(), calculateClosure(createLookaheadItems(entry.getValue())));
+        }
+        
+        assert startState.equals(lalrStates.get(startCore));
+        
+        for (final ParserState<T> parserState : lalrStates.values()) {
+            for (final Map.Entry<Symbol, Map<Item, Set<T>>> entry : computeGotoKernels(parserState).entrySet()) {
+                final Symbol symbol = entry.getKey();
+                final ParserState<T> finalState = lalrStates.get(entry.getValue().keySet());
+                
+                assert finalState != null;
+                
+                edges.add(edgeFactory.createInstance(parserState, symbol, finalState));
+            }
+        }
+        parserStates.addAll(lalrStates.values());
+        
+        logger.logp(Level.INFO, sourceClass, sourceMethod, "LALR(1) parser states: {0}, Edges: {1}", new Object[] {parserStates.size(), edges.size()});
+        
+        logger.exiting(sourceClass, sourceMethod);
+    }
+    
+    /**
+     * Merges canonical LR(1) parser states that have the same items and differ only in look-ahead, wherever doing so
+     * does not create a conflict.  States are first grouped greedily within each set of states sharing the same items,
+     * and then the groups are split until all the states in a group have edges to the same groups.  Splitting a group
+     * can never create a conflict, so the result accepts exactly the same language as the canonical parser.
+     * 
+     * @param startState the initial parser state
+     */
+    private void mergeCompatibleStates(final ParserState<T> startState) {
+        final String sourceMethod = "mergeCompatibleStates";
+        logger.entering(sourceClass, sourceMethod, startState);
+        
+        /*
+         * The greedy grouping depends on the order of the states, so number them in the order that a breadth-first
+         * search from the start state discovers them, following the edges of each state in the order that their
+         * symbols first appear in the grammar.  That makes the merged states the same on every run.
+         */
+        final Map<Symbol, Integer> symbolOrder = new HashMap<>();
+        for (final Item item : productionList) {
+            if ( !symbolOrder.containsKey(item.getTarget())) {
+                symbolOrder.put(item.getTarget(), symbolOrder.size());
+            }
+            for (final Symbol symbol : item.getProduction().getSymbols()) {
+                if ( !symbolOrder.containsKey(symbol)) {
+                    symbolOrder.put(symbol, symbolOrder.size());
+                }
+            }
+        }
+        final Comparator<Edge<T>> edgeOrder = new Comparator<Edge<T>>() {
+            
+            @Override
+            public int compare(final Edge<T> o1, final Edge<T> o2) {
+                return Integer.compare(symbolOrder.get(o1.getSymbol()), symbolOrder.get(o2.getSymbol()));
+            }
+            
+        };
+        final Map<ParserState<T>, List<Edge<T>>> outgoingEdges = new HashMap<>(parserStates.size() * 2);
+        for (final Edge<T> edge : edges) {
+            if ( !outgoingEdges.containsKey(edge.getInitialState())) {
+                outgoingEdges.put(edge.getInitialState(), new ArrayList<Edge<T>>());
+            }
+            outgoingEdges.get(edge.getInitialState()).add(edge);
+        }
+        final List<ParserState<T>> states = new ArrayList<>(parserStates.size());
+        final Map<ParserState<T>, Integer> stateIndex = new HashMap<>(parserStates.size() * 2);
+        states.add(startState);
+        stateIndex.put(startState, 0);
+        for (int i = 0; i < states.size(); i++) {
+            final List<Edge<T>> stateEdges = outgoingEdges.get(states.get(i));
+            if (stateEdges == null) {
+                continue;
+            }
+            Collections.sort(stateEdges, edgeOrder);
+            for (final Edge<T> edge : stateEdges) {
+                final ParserState<T> finalState = edge.getFinalState();
+                if ( !stateIndex.containsKey(finalState)) {
+                    stateIndex.put(finalState, states.size());
+                    states.add(finalState);
+                }
+            }
+        }
+        assert states.size() == parserStates.size();
+        
+        final List<Map<Symbol, Integer>> successors = new ArrayList<>(states.size());
+        for (int i = 0; i < states.size(); i++) {
+            successors.add(new HashMap<Symbol, Integer>());
+        }
+        for (final Edge<T> edge : edges) {
+            successors.get(stateIndex.get(edge.getInitialState())).put(edge.getSymbol(), stateIndex.get(edge.getFinalState()));
+        }
+        
+        /*
+         * Group the states by their items, ignoring look-ahead.
+         */
+        final Map<Set<Item>, List<Integer>> statesByCore = new LinkedHashMap<>();
+        for (int i = 0; i < states.size(); i++) {
+            final Set<Item> core = new HashSet<>();
+            for (final LookaheadItem<T> lookaheadItem : states.get(i).getItems()) {
+                core.add(lookaheadItem.getItem());
+            }
+            if ( !statesByCore.containsKey(core)) {
+                statesByCore.put(core, new ArrayList<Integer>());
+            }
+            statesByCore.get(core).add(i);
+        }
+        
+        /*
+         * Within each core, add each state to the first group that it does not conflict with.  States with the same
+         * core shift the same symbols, so the only new conflict that merging can create is a terminal that would
+         * reduce by two different items.
+         */
+        final int[] group = new int[states.size()];
+        int groupCount = 0;
+        for (final Map.Entry<Set<Item>, List<Integer>> entry : statesByCore.entrySet()) {
+            final List<Map<T, Item>> groupReductions = new ArrayList<>();
+            final List<Integer> groupNumbers = new ArrayList<>();
+            for (final int state : entry.getValue()) {
+                final Map<T, Item> reductions = new HashMap<>();
+                for (final LookaheadItem<T> lookaheadItem : states.get(state).getItems()) {
+                    if (lookaheadItem.getItem().isComplete()) {
+                        for (final T lookahead : lookaheadItem.getLookaheadSet()) {
+                            reductions.put(lookahead, lookaheadItem.getItem());
+                        }
+                    }
+                }
+                
+                int chosen = -1;
+                for (int i = 0; i < groupReductions.size() && chosen < 0; i++) {
+                    if (isCompatible(groupReductions.get(i), reductions)) {
+                        chosen = i;
+                    }
+                }
+                if (chosen < 0) {
+                    chosen = groupReductions.size();
+                    groupReductions.add(new HashMap<T, Item>());
+                    groupNumbers.add(groupCount++);
+                }
+                groupReductions.get(chosen).putAll(reductions);
+                group[state] = groupNumbers.get(chosen);
+            }
+        }
+        
+        /*
+         * Split groups until every state in a group has edges to the same groups on the same symbols.
+         */
+        boolean changed;
+        do {
+            final Map<List<Object>, Integer> signatures = new HashMap<>();
+            final int[] newGroup = new int[states.size()];
+            for (int i = 0; i < states.size(); i++) {
+                final Map<Symbol, Integer> successorGroups = new HashMap<>();
+                for (final Map.Entry<Symbol, Integer> entry : successors.get(i).entrySet()) {
+                    successorGroups.put(entry.getKey(), group[entry.getValue()]);
+                }
+                final List<Object> signature = Arrays.<Object>asList(group[i], successorGroups);
+                if ( !signatures.containsKey(signature)) {
+                    signatures.put(signature, signatures.size());
+                }
+                newGroup[i] = signatures.get(signature);
+            }
+            changed = signatures.size() != groupCount;
+            groupCount = signatures.size();
+            System.arraycopy(newGroup, 0, group, 0, group.length);
+        } while (changed);
+        
+        /*
+         * Create one parser state for each group, with the look-ahead sets of its members combined.
+         */
+        final List<List<ParserState<T>>> members = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            members.add(new ArrayList<ParserState<T>>());
+        }
+        for (int i = 0; i < states.size(); i++) {
+            members.get(group[i]).add(states.get(i));
+        }
+        final List<ParserState<T>> mergedStates = new ArrayList<>(groupCount);
+        for (final List<ParserState<T>> groupMembers : members) {
+            if (groupMembers.size() == 1) {
+                mergedStates.add(groupMembers.get(0));
+            } else {
+                final Map<Item, Set<T>> mergedItems = new HashMap<>();
+                for (final ParserState<T> parserState : groupMembers) {
+                    for (final LookaheadItem<T> lookaheadItem : parserState.getItems()) {
+                        final Item item = lookaheadItem.getItem();
+                        if ( !mergedItems.containsKey(item)) {
+                            mergedItems.put(item, lookaheadSetFactory.getNewSet());
+                        }
+                        mergedItems.get(item).addAll(lookaheadItem.getLookaheadSet());
+                    }
+                }
+                mergedStates.add(parserStateFactory.createInstance(createLookaheadItems(mergedItems)));
+            }
+        }
+        
+        final Set<Edge<T>> mergedEdges = new HashSet<>();
+        for (final Edge<T> edge : edges) {
+            final ParserState<T> initialState = mergedStates.get(group[stateIndex.get(edge.getInitialState())]);
+            final ParserState<T> finalState = mergedStates.get(group[stateIndex.get(edge.getFinalState())]);
+            mergedEdges.add(edgeFactory.createInstance(initialState, edge.getSymbol(), finalState));
+        }
+        
+        logger.logp(Level.INFO, sourceClass, sourceMethod, "Parser states before merging: {0}, after merging: {1}", new Object[] {parserStates.size(), mergedStates.size()});
+        
+        parserStates.clear();
+        parserStates.addAll(mergedStates);
+        edges.clear();
+        edges.addAll(mergedEdges);
+        
+        logger.logp(Level.INFO, sourceClass, sourceMethod, "Parser states: {0}, Edges: {1}", new Object[] {parserStates.size(), edges.size()});
+        
+        logger.exiting(sourceClass, sourceMethod);
+    }
+    
+    /**
+     * Determines whether the reductions of a parser state can be added to the reductions of a group of states without
+     * creating a conflict.
+     * 
+     * @param groupReductions the items reduced by the group, keyed by look-ahead terminal
+     * @param reductions the items reduced by the parser state, keyed by look-ahead terminal
+     * @return whether the parser state can join the group
+     */
+    private boolean isCompatible(final Map<T, Item> groupReductions, final Map<T, Item> reductions) {
+        for (final Map.Entry<T, Item> entry : reductions.entrySet()) {
+            final Item existing = groupReductions.get(entry.getKey());
+            if (existing != null && !existing.equals(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Creates look-ahead items for a kernel.  The look-ahead sets are copied, because the kernel may still change.
+     * 
+     * @param kernel the kernel items and their look-ahead sets
+     * @return the look-ahead items
+     */
+    private Set<LookaheadItem<T>> createLookaheadItems(final Map<Item, Set<T>> kernel) {
+        final Set<LookaheadItem<T>> lookaheadItems = new HashSet<>(kernel.size() * 2);
+        for (final Map.Entry<Item, Set<T>> entry : kernel.entrySet()) {
+            lookaheadItems.add(lookaheadItemFactory.createInstance(entry.getKey(), lookaheadSetFactory.getNewSet(entry.getValue())));
+        }
+        return lookaheadItems;
+    }
+    
+    /**
+     * Computes the kernels of all the states reachable from a parser state by a single symbol.  The end-of-file symbol
+     * is never shifted, so it has no kernel.
+     * 
+     * @param parserState the parser state
+     * @return the advanced kernel items and their look-ahead sets, grouped by the symbol that advances them
+     */
+    private Map<Symbol, Map<Item, Set<T>>> computeGotoKernels(final ParserState<T> parserState) {
+        final Map<Symbol, Map<Item, Set<T>>> gotoKernels = new HashMap<>();
+        for (final LookaheadItem<T> lookaheadItem : parserState.getItems()) {
+            final Item item = lookaheadItem.getItem();
+            if (item.isComplete()) {
+                continue;
+            }
+            
+            final Symbol nextSymbol = item.getNextSymbol();
+            if (endOfFileSymbol.equals(nextSymbol)) {
+                continue;
+            }
+            if ( !gotoKernels.containsKey(nextSymbol)) {
+                gotoKernels.put(nextSymbol, new HashMap<Item, Set<T>>());
+            }
+            final Map<Item, Set<T>> gotoKernel = gotoKernels.get(nextSymbol);
+            
+            final Item newItem = itemFactory.createItem(item.getTarget(), item.getProduction(), item.getParserPosition() + 1);
+            if ( !gotoKernel.containsKey(newItem)) {
+                gotoKernel.put(newItem, lookaheadSetFactory.getNewSet());
+            }
+            gotoKernel.get(newItem).addAll(lookaheadItem.getLookaheadSet());
+        }
+        gotoCalls.addAndGet(gotoKernels.size());
+        return gotoKernels;
+    }
+    
+    /**
+     * Returns the synthetic start production, which matches the start symbol followed by the end of input.
+     * 
+     * @return the start production, as an item at position zero
+     */
+    private Item createStartItem() {
+        final Production production = new Production(new IdentityProductionHandler(), startSymbol, endOfFileSymbol);
+        return itemFactory.createItem(START, production, 0);
+    }
+    
+    /**
+     * Returns the initial parser state, which is the closure of the start production.
+     * 
+     * @return the start state
+     */
+    private ParserState<T> createStartState() {
+        final Set<T> endOfFileSet = lookaheadSetFactory.getNewSet(Collections.singleton(endOfFileSymbol));
+        final LookaheadItem<T> lookaheadItem = lookaheadItemFactory.createInstance(createStartItem(), endOfFileSet);
+        final Set<LookaheadItem<T>> initialItems = Collections.singleton(lookaheadItem);
+        return calculateClosure(initialItems);
+    }
+    
+    /**
+     * Computes the canonical LR(1) parsing tables with a {@link CompactParserBuilder}, which encodes items and parser
+     * states as primitive arrays instead of creating item, parser state, and edge objects.
+     * 
+     * @return the parsing tables
+     */
+    private ParseTable<T> computeCompactParseTable() {
+        final String sourceMethod = "computeCompactParseTable";
+        logger.entering(sourceClass, sourceMethod);
+        
+        final long kernelStartTime = System.nanoTime();
+        Object event = beginPhase();
+        final CompactParserBuilder<T> builder = new CompactParserBuilder<>(productionList, createStartItem(),
+                endOfFileSymbol, lexicon, first, nullable);
+        endPhase(event, "closure kernels");
+        final long startTime = System.nanoTime();
+        event = beginPhase();
+        final ParseTable<T> parseTable = builder.build(getFingerprint());
+        endPhase(event, "parser states and parse table");
+        final long endTime = System.nanoTime();
+        closureIterations.addAndGet(builder.getClosureIterations());
+        /*
+         * The builder calculates one closure for each state, and one goto for each edge.
+         */
+        closureCalls.addAndGet(builder.getStateCount());
+        gotoCalls.addAndGet(builder.getEdgeCount());
+        duplicateStates.addAndGet(builder.getDuplicateStates());
+        
+        statistics.closureKernelTime = startTime - kernelStartTime;
+        statistics.parserStateTime = endTime - startTime - builder.getParseTableTime();
+        statistics.parseTableTime = builder.getParseTableTime();
+        statistics.stateCount = builder.getStateCount();
+        statistics.edgeCount = builder.getEdgeCount();
+        statistics.canonicalInstances = builder.getStateCount();
+        
+        logger.logp(Level.INFO, sourceClass, sourceMethod, "Parser states: {0}, Edges: {1}", new Object[] {builder.getStateCount(), builder.getEdgeCount()});
+        
+        logger.exiting(sourceClass, sourceMethod, parseTable);
+        return parseTable;
+    }
+    
+    /**
+     * Compiles the parser states and edges into parsing tables.
+     * 
+     * @param startState the initial parser state
+     * @param stateStartTime when computing the parser states started, as measured by {@link System#nanoTime()}
+     * @param stateEvent the event returned by {@link #beginPhase()} when computing the parser states started
+     * @return the parsing tables
+     */
+    private ParseTable<T> createParseTable(final ParserState<T> startState, final long stateStartTime,
+            final Object stateEvent) {
+        endPhase(stateEvent, "parser states");
+        final long tableStartTime = System.nanoTime();
+        final Object tableEvent = beginPhase();
+        final ParseTable<T> parseTable = new ParseTable<>(parserStates, edges, startState, endOfFileSymbol,
+                productionList, getFingerprint());
+        endPhase(tableEvent, "parse table");
+        final long endTime = System.nanoTime();
+        
+        statistics.parserStateTime = tableStartTime - stateStartTime;
+        statistics.parseTableTime = endTime - tableStartTime;
+        statistics.stateCount = parserStates.size();
+        statistics.edgeCount = edges.size();
+        return parseTable;
+    }
+    
+    /**
+     * Starts collecting the statistics for a new parser.
+     * 
+     * @param parserKind the kind of parser being generated
+     */
+    private void startStatistics(final ParserKind parserKind) {
+        statistics = new GenerationStatistics();
+        statistics.parserKind = parserKind;
+        closureIterations.set(0);
+        closureCalls.set(0);
+        gotoCalls.set(0);
+        duplicateStates.set(0);
+    }
+    
+    /**
+     * Finishes collecting the statistics for a new parser.  This must be called before the canonical factories are
+     * cleared.
+     * 
+     * @param startTime when generating the parser started, as measured by {@link System#nanoTime()}
+     * @return the statistics for the parser
+     */
+    private GenerationStatistics finishStatistics(final long startTime) {
+        statistics.closureCalls = closureCalls.get();
+        statistics.closureIterations = closureIterations.get();
+        statistics.gotoCalls = gotoCalls.get();
+        statistics.duplicateStates = duplicateStates.get();
+        statistics.canonicalInstances += getCanonicalInstanceCount();
+        statistics.totalTime = System.nanoTime() - startTime;
+        return statistics;
+    }
+    
+    /**
+     * Creates a canonical LR(1) parser for the grammar.  This is called after all calls to
      * {@link #addProduction}, {@link #setStartSymbol(NonTerminalSymbol)}, and {@link #setEndOfFileSymbol(TerminalSymbol)}.
      * 
      * @return a parser for the language defined by this grammar
      */
     public Parser<T> createParser() {
+        return createParser(ParserKind.LR1);
+    }
+    
+    /**
+     * Creates a parser of the given kind for the grammar.  This is called after all calls to
+     * {@link #addProduction}, {@link #setStartSymbol(NonTerminalSymbol)}, and {@link #setEndOfFileSymbol(TerminalSymbol)}.
+     * 
+     * @param parserKind the kind of parser to create
+     * @return a parser for the language defined by this grammar
+     * @throws IllegalStateException if the grammar is not in the class of grammars that the kind of parser accepts
+     */
+    public Parser<T> createParser(final ParserKind parserKind) {
         final String sourceMethod = "createParser";
-        logger.entering(sourceClass, sourceMethod);
+        logger.entering(sourceClass, sourceMethod, parserKind);
         
-        final long startTime = System.currentTimeMillis();
+        if (parserKind == null) {
+            throw new IllegalArgumentException();
+        }
         
-        compute();
+        final long startTime = System.nanoTime();
+        startStatistics(parserKind);
         
-        final Production production = new Production(new IdentityProductionHandler(), startSymbol, endOfFileSymbol);
-        final Item item = itemFactory.createItem(START, production, 0);
-        final Set<T> endOfFileSet = terminalSetFactory.getNewSet(Collections.singleton(endOfFileSymbol));
-        final LookaheadItem<T> lookaheadItem = lookaheadItemFactory.createInstance(item, endOfFileSet);
-        final Set<LookaheadItem<T>> initialItems = Collections.singleton(lookaheadItem);
-        final ParserState<T> startState = calculateClosure(initialItems);
         /*
-         * Start with just the initial state.
+         * The canonical instances are dropped even if the build fails, for example on a conflict, so that an arena
+         * does not hold the whole failed build until the next one succeeds.
+         */
+        final Parser<T> parser;
+        try {
+            compute();
+            
+            parserStates.clear();
+            edges.clear();
+            
+            final ParseTable<T> parseTable;
+            switch (parserKind) {
+            case LR1: {
+                parseTable = computeCompactParseTable();
+            } break;
+            case LALR1: {
+                computeObjectClosureKernels();
+                final long stateStartTime = System.nanoTime();
+                final Object stateEvent = beginPhase();
+                final ParserState<T> startState = createStartState();
+                computeLALRParseStates(startState);
+                parseTable = createParseTable(startState, stateStartTime, stateEvent);
+            } break;
+            case MINIMAL_LR1: {
+                computeObjectClosureKernels();
+                final long stateStartTime = System.nanoTime();
+                final Object stateEvent = beginPhase();
+                final ParserState<T> startState = createStartState();
+                computeParseStates(startState);
+                mergeCompatibleStates(startState);
+                parseTable = createParseTable(startState, stateStartTime, stateEvent);
+            } break;
+            default: {
+                throw new IllegalArgumentException("Unsupported parser kind: " + parserKind);
+            }
+            }
+            
+            parser = new Parser<>(parseTable, finishStatistics(startTime));
+            
+            logger.logp(Level.FINE, sourceClass, sourceMethod, "time to create parser: {0} ms",
+                    statistics.getTotalTime() / 1000000);
+        } finally {
+            logStatistics();
+            clearCanonicalFactories();
+        }
+        
+        logger.exiting(sourceClass, sourceMethod, parser);
+        return parser;
+    }
+    
+    /**
+     * The shared state of a concurrent parser state construction.  Every parser state is submitted to the executor as
+     * soon as it is discovered, so there is no point where all the threads have to wait for the slowest state before
+     * they can continue.
+     */
+    private class ParserStateFrontier {
+        
+        private final ExecutorService executorService;
+        
+        /**
+         * Every parser state that has been discovered.  A state is submitted only by the thread that adds it.
          */
+        private final ConcurrentMap<ParserState<T>, Boolean> discoveredStates;
+        
+        private final Set<Edge<T>> discoveredEdges;
+        
+        /**
+         * The number of states that have been submitted but not yet finished.
+         */
+        private final AtomicInteger pendingCount;
+        
+        private final CountDownLatch finished;
+        
+        private final AtomicReference<Throwable> failure;
         
-        computeParseStates(startState);
+        public ParserStateFrontier(final ExecutorService executorService) {
+            super();
+            this.executorService = executorService;
+            this.discoveredStates = new ConcurrentHashMap<>();
+            this.discoveredEdges = Collections.newSetFromMap(new ConcurrentHashMap<Edge<T>, Boolean>());
+            this.pendingCount = new AtomicInteger();
+            this.finished = new CountDownLatch(1);
+            this.failure = new AtomicReference<>();
+        }
         
-        for (final ParserState<T> parserState : parserStates) {
-            parserState.initializeParseTable(lexicon, nonTerminalSymbols);
+        public void discover(final ParserState<T> parserState) {
+            if (discoveredStates.putIfAbsent(parserState, Boolean.TRUE) != null) {
+                duplicateStates.incrementAndGet();
+                return;
+            }
+            pendingCount.incrementAndGet();
+            try {
+                executorService.execute(new ParserStateTask(this, parserState));
+            } catch (final RejectedExecutionException e) {
+                fail(e);
+            }
         }
         
-        final Parser<T> parser = new Parser<>(parserStates, edges, startState, endOfFileSymbol);
+        public void complete() {
+            if (pendingCount.decrementAndGet() == 0) {
+                finished.countDown();
+            }
+        }
         
-        final long endTime = System.currentTimeMillis();
+        public void fail(final Throwable throwable) {
+            failure.compareAndSet(null, throwable);
+            finished.countDown();
+        }
         
-        logger.logp(Level.FINE, sourceClass, sourceMethod, "time to create parser: {0} ms", endTime - startTime);
+        public boolean isFailed() {
+            return failure.get() != null;
+        }
         
-        logStatistics();
+        /**
+         * Waits until every discovered state has been computed.
+         * 
+         * @throws InterruptedException if interrupted while waiting
+         * @throws ExecutionException if computing any state failed
+         */
+        public void await() throws InterruptedException, ExecutionException {
+            try {
+                finished.await();
+            } catch (final InterruptedException e) {
+                fail(e);
+                throw e;
+            }
+            final Throwable throwable = failure.get();
+            if (throwable != null) {
+                throw new ExecutionException(throwable);
+            }
+        }
         
-        logger.exiting(sourceClass, sourceMethod, parser);
-        return parser;
     }
-
-    private class NewEdgeComputer implements Callable<Set<Edge<T>>> {
+    
+    private class ParserStateTask implements Runnable {
+        
+        private final ParserStateFrontier frontier;
         
         private final ParserState<T> parserState;
         
-        public NewEdgeComputer(final ParserState<T> parserState) {
+        public ParserStateTask(final ParserStateFrontier frontier, final ParserState<T> parserState) {
             super();
+            this.frontier = frontier;
             this.parserState = parserState;
         }
-    
+        
         @Override
-        public Set<Edge<T>> call() {
-            return computeOutgoingEdges(parserState);
+        public void run() {
+            try {
+                if (frontier.isFailed()) {
+                    return;
+                }
+                final Object event = FlightRecorderEvent.PARSER_STATE.begin();
+                final Set<Edge<T>> newEdges = computeOutgoingEdges(parserState);
+                if (event != null) {
+                    FlightRecorderEvent.PARSER_STATE.commit(event, newEdges.size());
+                }
+                frontier.discoveredEdges.addAll(newEdges);
+                for (final Edge<T> edge : newEdges) {
+                    frontier.discover(edge.getFinalState());
+                }
+            } catch (final Throwable e) {
+                frontier.fail(e);
+            } finally {
+                frontier.complete();
+            }
         }
         
     }
-
+    
+    /**
+     * Computes the canonical LR(1) parser states concurrently.  Each new state is submitted to the executor as soon as
+     * the edge leading to it is computed, and deduplicated through a concurrent map.
+     * 
+     * @param startState the initial parser state
+     * @param executorService the executor to compute the states on
+     * @throws InterruptedException if interrupted while waiting for the states
+     * @throws ExecutionException if computing any state failed
+     */
     private void threadedComputeParseStates(final ParserState<T> startState, final ExecutorService executorService) throws InterruptedException, ExecutionException {
         final String sourceMethod = "threadedComputeParseStates";
         logger.entering(sourceClass, sourceMethod, startState);
         
-        Set<ParserState<T>> pending = Collections.singleton(startState);
+        final ParserStateFrontier frontier = new ParserStateFrontier(executorService);
+        frontier.discover(startState);
+        frontier.await();
         
-        while ( !pending.isEmpty()) {
-            logger.logp(Level.FINE, sourceClass, sourceMethod, "parser states to compute: {0}", pending.size());
-    
-            final List<NewEdgeComputer> tasks = new ArrayList<>(pending.size());
-            for (final ParserState<T> parserState : pending) {
-                final NewEdgeComputer task = new NewEdgeComputer(parserState);
-                tasks.add(task);
-            }
-            
-            final List<Future<Set<Edge<T>>>> futures = executorService.invokeAll(tasks);
-            
-            final Set<Edge<T>> newEdges = new HashSet<>(futures.size());
-            for (final Future<Set<Edge<T>>> future : futures) {
-                final Set<Edge<T>> newEdgesForState = future.get();
-                newEdges.addAll(newEdgesForState);
-            }
-            
-            parserStates.addAll(pending);
-            edges.addAll(newEdges);
-    
-            final Set<ParserState<T>> newParserStates = new HashSet<>(newEdges.size());
-            for (final Edge<T> edge : newEdges) {
-                newParserStates.add(edge.getFinalState());
-            }
-            
-            logger.logp(Level.FINE, sourceClass, sourceMethod, "total parser states: {0}, total edges: {1}", new Object[] {parserStates.size(), edges.size()});
-            
-            pending = newParserStates;
-            pending.removeAll(parserStates);
-        }
+        parserStates.addAll(frontier.discoveredStates.keySet());
+        edges.addAll(frontier.discoveredEdges);
         
         logger.logp(Level.INFO, sourceClass, sourceMethod, "Parser states: {0}, Edges: {1}", new Object[] {parserStates.size(), edges.size()});
         
         logger.exiting(sourceClass, sourceMethod);
     }
-
+    
     /**
-     * Creates a parser for the grammar.  This is called after all calls to
-     * {@link #addProduction}, {@link #setStartSymbol(NonTerminalSymbol)}, and {@link #setEndOfFileSymbol(TerminalSymbol)}.
+     * Creates a canonical LR(1) parser for the grammar, computing the parser states concurrently.  This is called after
+     * all calls to {@link #addProduction}, {@link #setStartSymbol(NonTerminalSymbol)}, and
+     * {@link #setEndOfFileSymbol(TerminalSymbol)}.
+     * 
+     * <p>This builds the parser states as {@link ParserState}, {@link LookaheadItem}, and {@link Edge} objects through
+     * the canonical factories.  That object model is slower than the compact encoding that {@link #createParser()}
+     * uses for canonical LR(1) parsers, so this is only worthwhile when the threads more than make up the difference.
+     * Both produce the same parsing tables, apart from the numbering of the states.
      * 
      * @param executorService the thread pool to use
      * @return a parser for the language defined by this grammar
-     * @throws ExecutionException foo
-     * @throws InterruptedException bar
+     * @throws ExecutionException if computing any parser state failed
+     * @throws InterruptedException if interrupted while waiting for the parser states
      */
     public Parser<T> threadedCreateParser(final ExecutorService executorService)
             throws InterruptedException, ExecutionException {
         final String sourceMethod = "threadedCreateParser";
         logger.entering(sourceClass, sourceMethod, executorService);
         
-        final long startTime = System.currentTimeMillis();
-        
-        compute();
-        
-        final Production production = new Production(new IdentityProductionHandler(), startSymbol, endOfFileSymbol);
-        final Item item = itemFactory.createItem(START, production, 0);
-        final Set<T> endOfFileSet = terminalSetFactory.getNewSet(Collections.singleton(endOfFileSymbol));
-        final LookaheadItem<T> lookaheadItem = lookaheadItemFactory.createInstance(item, endOfFileSet);
-        final Set<LookaheadItem<T>> initialItems = Collections.singleton(lookaheadItem);
-        final ParserState<T> startState = calculateClosure(initialItems);
-        /*
-         * Start with just the initial state.
-         */
-        
-        threadedComputeParseStates(startState, executorService);
+        final long startTime = System.nanoTime();
+        startStatistics(ParserKind.LR1);
         
-        for (final ParserState<T> parserState : parserStates) {
-            parserState.initializeParseTable(lexicon, nonTerminalSymbols);
+        final Parser<T> parser;
+        try {
+            compute();
+            computeObjectClosureKernels();
+            
+            parserStates.clear();
+            edges.clear();
+            
+            final long stateStartTime = System.nanoTime();
+            final Object stateEvent = beginPhase();
+            final ParserState<T> startState = createStartState();
+            
+            threadedComputeParseStates(startState, executorService);
+            
+            parser = new Parser<>(createParseTable(startState, stateStartTime, stateEvent),
+                    finishStatistics(startTime));
+            
+            logger.logp(Level.FINE, sourceClass, sourceMethod, "time to create parser: {0} ms",
+                    statistics.getTotalTime() / 1000000);
+        } finally {
+            logStatistics();
+            clearCanonicalFactories();
         }
         
-        final Parser<T> parser = new Parser<>(parserStates, edges, startState, endOfFileSymbol);
-        
-        final long endTime = System.currentTimeMillis();
-        
-        logger.logp(Level.FINE, sourceClass, sourceMethod, "time to create parser: {0} ms", endTime - startTime);
-        
-        logStatistics();
-        
         logger.exiting(sourceClass, sourceMethod, parser);
         return parser;
     }
-
-    private void logFactoryStatistics(final String name, final WeakCanonicalFactory<?> factory) {
+    
+    private void logFactoryStatistics(final String name, final CanonicalFactory<?> factory) {
         final String sourceMethod = "logFactoryStatistics";
-        logger.logp(Level.FINE, sourceClass, sourceMethod, "{0} invocations: {1}, total instances: {2}", new Object[] {name, factory.getCallCount(), factory.getInstanceCount()});
+        logger.logp(Level.FINE, sourceClass, sourceMethod, "{0} invocations: {1}, total instances: {2}, contended: {3}", new Object[] {name, factory.getCallCount(), factory.getInstanceCount(), factory.getContentionCount()});
+    }
+    
+    /**
+     * Drops the canonical instances created while generating a parser.  They are only shared within a single build,
+     * and an {@link ArenaCanonicalFactory} would otherwise hold them until the grammar is discarded.
+     */
+    private void clearCanonicalFactories() {
+        itemFactory.getCanonicalFactory().clear();
+        lookaheadItemFactory.getCanonicalFactory().clear();
+        parserStateFactory.getCanonicalFactory().clear();
+        edgeFactory.getCanonicalFactory().clear();
+    }
+    
+    /**
+     * Returns the number of canonical instances currently held by the factories for items, look-ahead items, parser
+     * states, and edges.
+     * 
+     * @return the total number of canonical instances
+     */
+    long getCanonicalInstanceCount() {
+        return itemFactory.getCanonicalFactory().getInstanceCount()
+                + lookaheadItemFactory.getCanonicalFactory().getInstanceCount()
+                + parserStateFactory.getCanonicalFactory().getInstanceCount()
+                + edgeFactory.getCanonicalFactory().getInstanceCount();
     }
     
     public void logStatistics() {
-        logFactoryStatistics("Item factory", itemFactory);
-        logFactoryStatistics("Look-ahead factory", lookaheadItemFactory);
-        logFactoryStatistics("State factory", parserStateFactory);
-        logFactoryStatistics("Edge factory", edgeFactory);
+        final String sourceMethod = "logStatistics";
+        logFactoryStatistics("Item factory", itemFactory.getCanonicalFactory());
+        logFactoryStatistics("Look-ahead factory", lookaheadItemFactory.getCanonicalFactory());
+        logFactoryStatistics("State factory", parserStateFactory.getCanonicalFactory());
+        logFactoryStatistics("Edge factory", edgeFactory.getCanonicalFactory());
+        logger.logp(Level.FINE, sourceClass, sourceMethod, "closure iterations: {0}", closureIterations.get());
+        logger.logp(Level.FINE, sourceClass, sourceMethod, "generation statistics: {0}", statistics);
     }
     
 }
@@ -0,0 +1,95 @@
+package org.silnith.grammar;
+
+/**
+ * The time and memory spent in the handler for one production, as measured by a {@link HandlerProfiler}.
+ * 
+ * @see HandlerProfiler#getReport()
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class HandlerProfile {
+    
+    private final int production;
+    
+    private final String productionName;
+    
+    private final long calls;
+    
+    private final long totalTime;
+    
+    private final long allocatedBytes;
+    
+    HandlerProfile(final int production, final String productionName, final long calls, final long totalTime,
+            final long allocatedBytes) {
+        super();
+        this.production = production;
+        this.productionName = productionName;
+        this.calls = calls;
+        this.totalTime = totalTime;
+        this.allocatedBytes = allocatedBytes;
+    }
+    
+    /**
+     * Returns the production ordinal, which is the order in which it was added to the {@link Grammar}, counting from
+     * zero.
+     * 
+     * @return the production ordinal
+     */
+    public int getProduction() {
+        return production;
+    }
+    
+    /**
+     * Returns a description of the production.
+     * 
+     * @return the production description
+     */
+    public String getProductionName() {
+        return productionName;
+    }
+    
+    /**
+     * Returns the number of times the handler was called.
+     * 
+     * @return the number of calls
+     */
+    public long getCalls() {
+        return calls;
+    }
+    
+    /**
+     * Returns the total wall-clock time spent in the handler.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+    
+    /**
+     * Returns the mean wall-clock time of one call to the handler.
+     * 
+     * @return the time in nanoseconds
+     */
+    public double getMeanTime() {
+        if (calls == 0) {
+            return 0;
+        }
+        return (double) totalTime / calls;
+    }
+    
+    /**
+     * Returns the total number of bytes allocated by the handler.
+     * 
+     * @return the number of bytes, or {@code -1} if the JVM cannot measure the memory allocated by a thread
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%-60s %12d calls %15d ns %12.1f ns/call %15d bytes", productionName, calls, totalTime,
+                getMeanTime(), allocatedBytes);
+    }
+    
+}
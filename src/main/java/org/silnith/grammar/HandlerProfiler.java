@@ -0,0 +1,165 @@
+package org.silnith.grammar;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Measures the time and memory spent in the {@link ProductionHandler}s and {@link RightHandSideHandler}s of a
+ * {@link Parser}, for each production.  Most of the time spent parsing is often in the handlers rather than in the
+ * parser itself, and this shows which handlers are worth making faster.
+ * 
+ * <p>Every call to a handler is timed with {@link System#nanoTime()}.  If the JVM supports it, the bytes allocated by
+ * the handler are measured with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, which is
+ * considerably more expensive than reading the clock.  Only the handler call itself is measured, not the work the
+ * parser does to prepare its arguments.
+ * 
+ * <p>A profiler is thread-safe, so a profiling parser may be shared by many threads like any other parser.
+ * 
+ * @see Parser#withHandlerProfiling()
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class HandlerProfiler {
+    
+    private final String[] productionNames;
+    
+    private final AtomicLongArray calls;
+    
+    private final AtomicLongArray totalTime;
+    
+    private final AtomicLongArray allocatedBytes;
+    
+    /**
+     * The means of measuring allocation, or {@code null} if the JVM cannot measure the memory allocated by a thread.
+     */
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    
+    HandlerProfiler(final List<String> productionNames) {
+        super();
+        this.productionNames = productionNames.toArray(new String[productionNames.size()]);
+        this.calls = new AtomicLongArray(productionNames.size());
+        this.totalTime = new AtomicLongArray(productionNames.size());
+        this.allocatedBytes = new AtomicLongArray(productionNames.size());
+        this.threadMXBean = getAllocationMXBean();
+    }
+    
+    private static com.sun.management.ThreadMXBean getAllocationMXBean() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationMXBean.isThreadAllocatedMemorySupported()
+                    && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationMXBean;
+            }
+        }
+        return null;
+    }
+    
+    private long getAllocatedBytes() {
+        if (threadMXBean == null) {
+            return 0;
+        }
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    
+    private void record(final int production, final long time, final long bytes) {
+        calls.incrementAndGet(production);
+        totalTime.addAndGet(production, time);
+        allocatedBytes.addAndGet(production, bytes);
+    }
+    
+    /**
+     * Calls a production handler and records how long it took and how much it allocated.
+     * 
+     * @param production the production ordinal
+     * @param productionHandler the handler for the production
+     * @param rightHandSide the symbols matched by the production
+     * @return the result of the handler
+     */
+    Object handleReduction(final int production, final ProductionHandler productionHandler,
+            final List<Object> rightHandSide) {
+        final long startBytes = getAllocatedBytes();
+        final long startTime = System.nanoTime();
+        final Object newDatum = productionHandler.handleReduction(rightHandSide);
+        final long endTime = System.nanoTime();
+        record(production, endTime - startTime, getAllocatedBytes() - startBytes);
+        return newDatum;
+    }
+    
+    /**
+     * Calls a right-hand side handler and records how long it took and how much it allocated.
+     * 
+     * @param production the production ordinal
+     * @param rightHandSideHandler the handler for the production
+     * @param rightHandSide the symbols matched by the production
+     * @return the result of the handler
+     */
+    Object handleReduction(final int production, final RightHandSideHandler rightHandSideHandler,
+            final RightHandSide rightHandSide) {
+        final long startBytes = getAllocatedBytes();
+        final long startTime = System.nanoTime();
+        final Object newDatum = rightHandSideHandler.handleReduction(rightHandSide);
+        final long endTime = System.nanoTime();
+        record(production, endTime - startTime, getAllocatedBytes() - startBytes);
+        return newDatum;
+    }
+    
+    /**
+     * Returns whether the memory allocated by the handlers is being measured.
+     * 
+     * @return {@code true} if the JVM can measure the memory allocated by a thread
+     */
+    public boolean isMeasuringAllocation() {
+        return threadMXBean != null;
+    }
+    
+    /**
+     * Returns the profile of every production whose handler has been called, ranked by the total time spent in the
+     * handler, most expensive first.
+     * 
+     * @return the handler profiles
+     */
+    public List<HandlerProfile> getReport() {
+        final List<HandlerProfile> report = new ArrayList<>();
+        for (int production = 0; production < productionNames.length; production++) {
+            final long productionCalls = calls.get(production);
+            if (productionCalls > 0) {
+                report.add(new HandlerProfile(production, productionNames[production], productionCalls,
+                        totalTime.get(production), threadMXBean == null ? -1 : allocatedBytes.get(production)));
+            }
+        }
+        Collections.sort(report, new Comparator<HandlerProfile>() {
+            
+            @Override
+            public int compare(final HandlerProfile o1, final HandlerProfile o2) {
+                return Long.compare(o2.getTotalTime(), o1.getTotalTime());
+            }
+            
+        });
+        return report;
+    }
+    
+    /**
+     * Sets all the measurements back to zero.
+     */
+    public void reset() {
+        for (int production = 0; production < productionNames.length; production++) {
+            calls.set(production, 0);
+            totalTime.set(production, 0);
+            allocatedBytes.set(production, 0);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (final HandlerProfile handlerProfile : getReport()) {
+            stringBuilder.append(handlerProfile).append(System.lineSeparator());
+        }
+        return stringBuilder.toString();
+    }
+    
+}
@@ -1,14 +1,21 @@
 package org.silnith.grammar;
 
-class ItemFactory extends WeakCanonicalFactory<Item> {
+class ItemFactory {
     
-    public ItemFactory() {
+    private final CanonicalFactory<Item> canonicalFactory;
+    
+    public ItemFactory(final CanonicalFactory<Item> canonicalFactory) {
         super();
+        this.canonicalFactory = canonicalFactory;
     }
     
     public Item createItem(final NonTerminalSymbol leftHandSide, final Production rightHandSide,
             final int parserPosition) {
-        return valueOf(new Item(leftHandSide, rightHandSide, parserPosition));
+        return canonicalFactory.valueOf(new Item(leftHandSide, rightHandSide, parserPosition));
+    }
+    
+    public CanonicalFactory<Item> getCanonicalFactory() {
+        return canonicalFactory;
     }
     
 }
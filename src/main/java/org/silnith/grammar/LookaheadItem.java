@@ -24,7 +24,14 @@ class LookaheadItem<T extends TerminalSymbol> {
         	throw new IllegalArgumentException();
         }
         this.item = item;
-        this.lookaheadSet = Collections.unmodifiableSet(lookaheadSet);
+        if (lookaheadSet instanceof TerminalBitSet) {
+            /*
+             * Keep the bit set fast paths for equality and for copying the set into other items.
+             */
+            this.lookaheadSet = ((TerminalBitSet<T>) lookaheadSet).unmodifiableView();
+        } else {
+            this.lookaheadSet = Collections.unmodifiableSet(lookaheadSet);
+        }
         this.hashCode = Objects.hash(this.item, this.lookaheadSet);
     }
     
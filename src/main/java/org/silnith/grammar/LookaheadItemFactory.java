@@ -2,10 +2,21 @@ package org.silnith.grammar;
 
 import java.util.Set;
 
-class LookaheadItemFactory<T extends TerminalSymbol> extends WeakCanonicalFactory<LookaheadItem<T>> {
+class LookaheadItemFactory<T extends TerminalSymbol> {
+    
+    private final CanonicalFactory<LookaheadItem<T>> canonicalFactory;
+    
+    public LookaheadItemFactory(final CanonicalFactory<LookaheadItem<T>> canonicalFactory) {
+        super();
+        this.canonicalFactory = canonicalFactory;
+    }
     
     public LookaheadItem<T> createInstance(final Item item, final Set<T> lookaheadSet) {
-        return valueOf(new LookaheadItem<>(item, lookaheadSet));
+        return canonicalFactory.valueOf(new LookaheadItem<>(item, lookaheadSet));
+    }
+    
+    public CanonicalFactory<LookaheadItem<T>> getCanonicalFactory() {
+        return canonicalFactory;
     }
     
 }
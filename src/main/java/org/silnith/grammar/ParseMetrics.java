@@ -0,0 +1,192 @@
+package org.silnith.grammar;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts of what a {@link Parser} does while parsing, gathered from every parse it performs.  These show which
+ * productions dominate the reductions on real input, how deeply the input nests, and how long parsing takes.
+ * 
+ * <p>Each parse counts into local variables and only updates the shared totals once it finishes, so the metrics are
+ * thread-safe and cost little even when many threads share the parser.  The totals are not updated atomically as a
+ * group, so a reader may see one parse reflected in some of the metrics but not yet in others.
+ * 
+ * <p>The metrics can be registered with the platform {@link javax.management.MBeanServer} as an MXBean:
+ * 
+ * <pre>
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(parser.getMetrics(),
+ *         new ObjectName("org.silnith.grammar:type=ParseMetrics,name=sql"));
+ * </pre>
+ * 
+ * @see Parser#withMetrics()
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class ParseMetrics implements ParseMetricsMXBean {
+    
+    private static final int HISTOGRAM_SIZE = Integer.SIZE;
+    
+    private final String[] productionNames;
+    
+    private final AtomicLong parseCount;
+    
+    private final AtomicLong failedParseCount;
+    
+    private final AtomicLong tokensShifted;
+    
+    private final AtomicLong reductions;
+    
+    private final AtomicLongArray reductionCounts;
+    
+    private final AtomicLong maxStackDepth;
+    
+    private final AtomicLongArray stackDepthHistogram;
+    
+    private final AtomicLong totalParseTime;
+    
+    private final AtomicLong maxParseTime;
+    
+    ParseMetrics(final List<String> productionNames) {
+        super();
+        this.productionNames = productionNames.toArray(new String[productionNames.size()]);
+        this.parseCount = new AtomicLong();
+        this.failedParseCount = new AtomicLong();
+        this.tokensShifted = new AtomicLong();
+        this.reductions = new AtomicLong();
+        this.reductionCounts = new AtomicLongArray(productionNames.size());
+        this.maxStackDepth = new AtomicLong();
+        this.stackDepthHistogram = new AtomicLongArray(HISTOGRAM_SIZE);
+        this.totalParseTime = new AtomicLong();
+        this.maxParseTime = new AtomicLong();
+    }
+    
+    /**
+     * Raises a maximum to at least the given value.
+     */
+    private static void updateMax(final AtomicLong max, final long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+    
+    private static long[] toArray(final AtomicLongArray atomicLongArray) {
+        final long[] array = new long[atomicLongArray.length()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = atomicLongArray.get(i);
+        }
+        return array;
+    }
+    
+    /**
+     * Adds the counts from one finished parse to the totals.
+     * 
+     * @param tokens the number of tokens shifted
+     * @param reductionCounter the number of times each production was reduced, which is drained
+     * @param reductionCount the total number of reductions
+     * @param stackDepth the maximum depth of the parser state stack
+     * @param elapsedTime the wall-clock time of the parse, in nanoseconds
+     * @param accepted whether the input was accepted
+     */
+    void record(final long tokens, final ReductionCounter reductionCounter, final long reductionCount,
+            final int stackDepth, final long elapsedTime, final boolean accepted) {
+        parseCount.incrementAndGet();
+        if (!accepted) {
+            failedParseCount.incrementAndGet();
+        }
+        tokensShifted.addAndGet(tokens);
+        reductions.addAndGet(reductionCount);
+        reductionCounter.drainTo(reductionCounts);
+        updateMax(maxStackDepth, stackDepth);
+        if (stackDepth > 0) {
+            stackDepthHistogram.incrementAndGet(HISTOGRAM_SIZE - 1 - Integer.numberOfLeadingZeros(stackDepth));
+        }
+        totalParseTime.addAndGet(elapsedTime);
+        updateMax(maxParseTime, elapsedTime);
+    }
+    
+    @Override
+    public long getParseCount() {
+        return parseCount.get();
+    }
+    
+    @Override
+    public long getFailedParseCount() {
+        return failedParseCount.get();
+    }
+    
+    @Override
+    public long getTokensShifted() {
+        return tokensShifted.get();
+    }
+    
+    @Override
+    public long getReductions() {
+        return reductions.get();
+    }
+    
+    @Override
+    public long[] getReductionCounts() {
+        return toArray(reductionCounts);
+    }
+    
+    @Override
+    public String[] getProductionNames() {
+        return productionNames.clone();
+    }
+    
+    @Override
+    public int getMaxStackDepth() {
+        return (int) maxStackDepth.get();
+    }
+    
+    @Override
+    public long[] getStackDepthHistogram() {
+        return toArray(stackDepthHistogram);
+    }
+    
+    @Override
+    public long getTotalParseTime() {
+        return totalParseTime.get();
+    }
+    
+    @Override
+    public long getMaxParseTime() {
+        return maxParseTime.get();
+    }
+    
+    @Override
+    public double getTokensPerSecond() {
+        final long time = totalParseTime.get();
+        if (time == 0) {
+            return 0;
+        }
+        return (double) tokensShifted.get() * TimeUnit.SECONDS.toNanos(1) / time;
+    }
+    
+    @Override
+    public void reset() {
+        parseCount.set(0);
+        failedParseCount.set(0);
+        tokensShifted.set(0);
+        reductions.set(0);
+        for (int i = 0; i < reductionCounts.length(); i++) {
+            reductionCounts.set(i, 0);
+        }
+        maxStackDepth.set(0);
+        for (int i = 0; i < stackDepthHistogram.length(); i++) {
+            stackDepthHistogram.set(i, 0);
+        }
+        totalParseTime.set(0);
+        maxParseTime.set(0);
+    }
+    
+    @Override
+    public String toString() {
+        return "ParseMetrics [parseCount=" + parseCount + ", failedParseCount=" + failedParseCount
+                + ", tokensShifted=" + tokensShifted + ", reductions=" + reductions + ", maxStackDepth="
+                + maxStackDepth + ", totalParseTime=" + totalParseTime + ", maxParseTime=" + maxParseTime + "]";
+    }
+    
+}
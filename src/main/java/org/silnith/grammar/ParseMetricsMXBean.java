@@ -0,0 +1,97 @@
+package org.silnith.grammar;
+
+/**
+ * The management interface for the {@link ParseMetrics} of a {@link Parser}.  This allows the metrics to be
+ * registered with an {@link javax.management.MBeanServer} and watched with any JMX console.
+ * 
+ * @see ParseMetrics
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public interface ParseMetricsMXBean {
+    
+    /**
+     * Returns the number of parses that have finished, whether or not they succeeded.
+     * 
+     * @return the number of parses
+     */
+    long getParseCount();
+    
+    /**
+     * Returns the number of parses that failed, either because the input was not a sentence of the language or
+     * because a {@link ProductionHandler} threw an exception.
+     * 
+     * @return the number of failed parses
+     */
+    long getFailedParseCount();
+    
+    /**
+     * Returns the number of tokens shifted by all parses.
+     * 
+     * @return the number of tokens
+     */
+    long getTokensShifted();
+    
+    /**
+     * Returns the number of reductions performed by all parses.
+     * 
+     * @return the number of reductions
+     */
+    long getReductions();
+    
+    /**
+     * Returns the number of times each production was reduced, indexed by production ordinal.
+     * 
+     * @return the reduction counts, in the same order as {@link #getProductionNames()}
+     */
+    long[] getReductionCounts();
+    
+    /**
+     * Returns a description of each production, indexed by production ordinal.
+     * 
+     * @return the production descriptions
+     */
+    String[] getProductionNames();
+    
+    /**
+     * Returns the deepest the parser state stack has been in any parse.
+     * 
+     * @return the maximum stack depth
+     */
+    int getMaxStackDepth();
+    
+    /**
+     * Returns a histogram of the maximum stack depth of each parse.  Element {@code i} counts the parses whose
+     * maximum stack depth was at least <code>2<sup>i</sup></code> and less than <code>2<sup>i+1</sup></code>.
+     * 
+     * @return the stack depth histogram
+     */
+    long[] getStackDepthHistogram();
+    
+    /**
+     * Returns the total wall-clock time spent in all parses, including the time spent in the lexers and the
+     * {@link ProductionHandler}s.
+     * 
+     * @return the time in nanoseconds
+     */
+    long getTotalParseTime();
+    
+    /**
+     * Returns the wall-clock time of the slowest parse.
+     * 
+     * @return the time in nanoseconds
+     */
+    long getMaxParseTime();
+    
+    /**
+     * Returns the average number of tokens shifted per second of parsing.
+     * 
+     * @return the parsing throughput
+     */
+    double getTokensPerSecond();
+    
+    /**
+     * Sets all the metrics back to zero.
+     */
+    void reset();
+    
+}
@@ -0,0 +1,136 @@
+package org.silnith.grammar;
+
+/**
+ * An incremental parse that is driven by pushing tokens into it, one at a time, instead of pulling them from a
+ * {@link Lexer}.  This allows input that arrives piecemeal, for example from a network connection or a reactive
+ * pipeline, to be parsed as it arrives without buffering it or dedicating a thread to it.
+ * 
+ * <p>The parser stacks are kept between calls to {@link #offer(Token)}.  Every reduction that becomes possible when a
+ * token is offered is performed before the call returns, so the {@link ProductionHandler}s see each production as
+ * soon as it is complete.  The end of the input is signalled by calling {@link #finish()}, which performs the
+ * remaining reductions and returns the abstract syntax tree.
+ * 
+ * <p>A session is not thread-safe.  Tokens must be offered by one thread at a time, in input order.  Any number of
+ * sessions created from the same {@link Parser} may be used concurrently.
+ * 
+ * <p>A session ends when {@link #finish()} returns, or when a token cannot be parsed.  After it ends, it cannot be
+ * used again.
+ * 
+ * @param <T> the concrete type of identifiers for terminal symbols
+ * @see Parser#newSession()
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class ParseSession<T extends TerminalSymbol> {
+    
+    private final Parser<T> parser;
+    
+    private final ParseTable<T> parseTable;
+    
+    private final ParserData parserData;
+    
+    private boolean open;
+    
+    ParseSession(final Parser<T> parser) {
+        super();
+        this.parser = parser;
+        this.parseTable = parser.getParseTable();
+        this.parserData = new ParserData();
+        this.parserData.pushState(parseTable.getStartState());
+        this.open = true;
+    }
+    
+    private void checkOpen() {
+        if (!open) {
+            throw new IllegalStateException("The parse session has ended.");
+        }
+    }
+    
+    /**
+     * Parses the next token of the input.  All the reductions that the token makes possible are performed, and then
+     * the token is shifted onto the parser stack.
+     * 
+     * @param token the next token of the input
+     * @return the number of reductions that were performed
+     * @throws IllegalArgumentException if the token is the end-of-file symbol, which is signalled by calling
+     *         {@link #finish()} instead
+     * @throws IllegalStateException if the session has ended, or the token is not valid at this point in the input
+     */
+    public int offer(final Token<T> token) {
+        if (token == null) {
+            throw new IllegalArgumentException();
+        }
+        final T symbol = token.getSymbol();
+        if (symbol.equals(parseTable.getEndOfFileSymbol())) {
+            throw new IllegalArgumentException("The end of input is signalled by calling finish().");
+        }
+        checkOpen();
+        
+        /*
+         * The session stays closed unless the token is shifted, so a parse error or a failing production handler
+         * ends the session instead of leaving it with a partially reduced stack.
+         */
+        open = false;
+        final int terminal = parseTable.getTerminalIndex(symbol);
+        int reductions = 0;
+        while (true) {
+            final int state = parserData.peekState();
+            final int action = parseTable.getAction(state, terminal);
+            switch (ParseTable.getActionType(action)) {
+            case ParseTable.SHIFT: {
+                parserData.pushState(ParseTable.getActionOperand(action));
+                parserData.pushData(token);
+                open = true;
+                return reductions;
+            }
+            case ParseTable.REDUCE: {
+                parser.reduce(parserData, ParseTable.getActionOperand(action));
+                reductions++;
+            } break;
+            default: {
+                throw new IllegalStateException("No parse action for symbol: " + symbol + " and state: " + state);
+            }
+            }
+        }
+    }
+    
+    /**
+     * Signals the end of the input, performs the remaining reductions, and ends the session.
+     * 
+     * @return an abstract syntax tree as constructed by the various {@link ProductionHandler} implementations used in
+     *         the {@link Grammar}
+     * @throws IllegalStateException if the session has ended, or the input ended before a complete sentence of the
+     *         language was parsed
+     */
+    public Object finish() {
+        checkOpen();
+        
+        open = false;
+        final int terminal = parseTable.getTerminalIndex(parseTable.getEndOfFileSymbol());
+        while (true) {
+            final int state = parserData.peekState();
+            final int action = parseTable.getAction(state, terminal);
+            switch (ParseTable.getActionType(action)) {
+            case ParseTable.REDUCE: {
+                parser.reduce(parserData, ParseTable.getActionOperand(action));
+            } break;
+            case ParseTable.ACCEPT: {
+                return parserData.popData();
+            }
+            default: {
+                throw new IllegalStateException("No parse action for symbol: " + parseTable.getEndOfFileSymbol()
+                        + " and state: " + state);
+            }
+            }
+        }
+    }
+    
+    /**
+     * Returns whether more tokens may be offered to this session.
+     * 
+     * @return {@code true} if the session has not ended
+     */
+    public boolean isOpen() {
+        return open;
+    }
+    
+}
@@ -0,0 +1,652 @@
+package org.silnith.grammar;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The compiled parsing tables for a {@link Parser}.  Every parser state, terminal symbol, non-terminal symbol, and
+ * production is assigned a dense ordinal, and the ACTION and GOTO tables are stored as flat {@code int} arrays indexed
+ * by {@code state * columns + symbol}.  This lets the parse loop run on array indexing alone instead of hashing
+ * symbols into per-state maps.
+ * 
+ * <p>Each ACTION entry packs the action type into the low {@link #ACTION_TYPE_BITS} bits and the operand, either the
+ * destination state for a shift or the production for a reduce, into the remaining bits.  An entry of {@link #ERROR}
+ * means there is no valid action.
+ * 
+ * <p>Tables are immutable.  Every field is final, and nothing reachable from them is modified after the constructor
+ * returns, so a table is safely published to any thread that obtains a reference to it and can be read concurrently
+ * without synchronization.
+ * 
+ * <p>Tables for a parser created by a {@link Grammar} number the productions in the order they were added to the
+ * grammar, and can be written out with {@link #write(DataOutput)} and read back with
+ * {@link #read(DataInput, Grammar)}.  The format is a header followed by the terminal names and the raw tables:
+ * <pre>
+ * int magic, int version, long grammar fingerprint
+ * int states, int terminals, int non-terminals, int productions
+ * UTF terminal name, for each terminal
+ * int target non-terminal, int length, for each production
+ * int action, for each state and terminal
+ * int goto, for each state and non-terminal
+ * </pre>
+ * 
+ * @param <T> the concrete type of terminal symbols
+ */
+final class ParseTable<T extends TerminalSymbol> {
+    
+    /**
+     * There is no parse action for the symbol.  The input is not in the language.
+     */
+    static final int ERROR = 0;
+    
+    /**
+     * Consume the terminal and move to the state in the operand.
+     */
+    static final int SHIFT = 1;
+    
+    /**
+     * Reduce using the production in the operand.
+     */
+    static final int REDUCE = 2;
+    
+    /**
+     * Accept the input.
+     */
+    static final int ACCEPT = 3;
+    
+    static final int ACTION_TYPE_BITS = 2;
+    
+    private static final int ACTION_TYPE_MASK = (1 << ACTION_TYPE_BITS) - 1;
+    
+    /**
+     * The value in the GOTO table when there is no transition.
+     */
+    static final int NO_STATE = -1;
+    
+    private static final int MAGIC = 0x4C523150;
+    
+    private static final int VERSION = 1;
+    
+    /**
+     * The most parser states that fit in the operand of a shift action.
+     */
+    private static final int MAXIMUM_STATES = Integer.MAX_VALUE >>> ACTION_TYPE_BITS;
+    
+    static int encodeAction(final int type, final int operand) {
+        return operand << ACTION_TYPE_BITS | type;
+    }
+    
+    static int getActionType(final int action) {
+        return action & ACTION_TYPE_MASK;
+    }
+    
+    static int getActionOperand(final int action) {
+        return action >>> ACTION_TYPE_BITS;
+    }
+    
+    private final int stateCount;
+    
+    private final TerminalIndex<T> terminals;
+    
+    private final List<NonTerminalSymbol> nonTerminals;
+    
+    private final int[] actionTable;
+    
+    private final int[] gotoTable;
+    
+    private final int[] productionLength;
+    
+    private final int[] productionTarget;
+    
+    private final ProductionHandler[] productionHandlers;
+    
+    /**
+     * The production handlers that accept a {@link RightHandSide} view, or {@code null} for handlers that need a list.
+     */
+    private final RightHandSideHandler[] rightHandSideHandlers;
+    
+    private final List<String> productionNames;
+    
+    /**
+     * The fingerprint of the grammar that numbered the productions, or {@code null} if the productions were numbered
+     * in the order they were found in the parser states.
+     */
+    private final Long grammarFingerprint;
+    
+    /**
+     * Compiles the parsing tables from the parser states and the edges between them.
+     * 
+     * @param parserStates all parser states
+     * @param edges all edges between parser states
+     * @param startState the initial parser state
+     * @param endOfFileSymbol the terminal that marks the end of input
+     * @throws IllegalStateException if two actions conflict for the same state and symbol
+     */
+    ParseTable(final Collection<ParserState<T>> parserStates, final Collection<Edge<T>> edges,
+            final ParserState<T> startState, final T endOfFileSymbol) {
+        this(parserStates, edges, startState, endOfFileSymbol, Collections.<Item>emptyList(), null);
+    }
+    
+    /**
+     * Compiles the parsing tables from the parser states and the edges between them, numbering the productions in the
+     * order they appear in the grammar.
+     * 
+     * @param parserStates all parser states
+     * @param edges all edges between parser states
+     * @param startState the initial parser state
+     * @param endOfFileSymbol the terminal that marks the end of input
+     * @param grammarProductions the productions of the grammar, as items at position zero
+     * @param grammarFingerprint the fingerprint of the grammar, or {@code null} if the tables are not from a grammar
+     * @throws IllegalStateException if two actions conflict for the same state and symbol
+     */
+    ParseTable(final Collection<ParserState<T>> parserStates, final Collection<Edge<T>> edges,
+            final ParserState<T> startState, final T endOfFileSymbol, final List<Item> grammarProductions,
+            final Long grammarFingerprint) {
+        super();
+        if (parserStates == null || edges == null || startState == null || endOfFileSymbol == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        /*
+         * Assign the ordinals.  The start state is always state zero.
+         */
+        final Map<ParserState<T>, Integer> stateIndex = new HashMap<>(parserStates.size() * 2);
+        final List<ParserState<T>> states = new ArrayList<>(parserStates.size());
+        stateIndex.put(startState, 0);
+        states.add(startState);
+        for (final ParserState<T> parserState : parserStates) {
+            if ( !stateIndex.containsKey(parserState)) {
+                stateIndex.put(parserState, states.size());
+                states.add(parserState);
+            }
+        }
+        this.stateCount = states.size();
+        
+        final Set<T> terminalSet = new LinkedHashSet<>();
+        final Set<NonTerminalSymbol> nonTerminalSet = new LinkedHashSet<>();
+        terminalSet.add(endOfFileSymbol);
+        for (final Edge<T> edge : edges) {
+            addSymbol(edge.getSymbol(), terminalSet, nonTerminalSet);
+        }
+        final Map<Production, Integer> productionIndex = new IdentityHashMap<>();
+        final List<Item> reduceItems = new ArrayList<>();
+        for (final Item item : grammarProductions) {
+            nonTerminalSet.add(item.getTarget());
+            productionIndex.put(item.getProduction(), reduceItems.size());
+            reduceItems.add(item);
+        }
+        for (final ParserState<T> parserState : states) {
+            for (final LookaheadItem<T> lookaheadItem : parserState.getItems()) {
+                final Item item = lookaheadItem.getItem();
+                if (item.isComplete()) {
+                    terminalSet.addAll(lookaheadItem.getLookaheadSet());
+                    nonTerminalSet.add(item.getTarget());
+                    if ( !productionIndex.containsKey(item.getProduction())) {
+                        productionIndex.put(item.getProduction(), reduceItems.size());
+                        reduceItems.add(item);
+                    }
+                }
+            }
+        }
+        this.terminals = new TerminalIndex<>(terminalSet);
+        this.nonTerminals = new ArrayList<>(nonTerminalSet);
+        
+        final Map<NonTerminalSymbol, Integer> nonTerminalIndex = new HashMap<>(nonTerminals.size() * 2);
+        for (final NonTerminalSymbol nonTerminal : nonTerminals) {
+            nonTerminalIndex.put(nonTerminal, nonTerminalIndex.size());
+        }
+        
+        final int productionCount = reduceItems.size();
+        this.productionLength = new int[productionCount];
+        this.productionTarget = new int[productionCount];
+        this.productionHandlers = new ProductionHandler[productionCount];
+        this.rightHandSideHandlers = new RightHandSideHandler[productionCount];
+        for (int i = 0; i < productionCount; i++) {
+            productionTarget[i] = nonTerminalIndex.get(reduceItems.get(i).getTarget());
+        }
+        this.productionNames = bindProductions(reduceItems);
+        this.grammarFingerprint = grammarFingerprint;
+        
+        /*
+         * Fill in the tables.
+         */
+        this.actionTable = new int[stateCount * terminals.size()];
+        this.gotoTable = new int[stateCount * nonTerminals.size()];
+        Arrays.fill(gotoTable, NO_STATE);
+        
+        for (final Edge<T> edge : edges) {
+            final int state = stateIndex.get(edge.getInitialState());
+            final Symbol symbol = edge.getSymbol();
+            final int destinationState = stateIndex.get(edge.getFinalState());
+            
+            if (symbol instanceof TerminalSymbol) {
+                putAction(state, terminals.indexOf(symbol), encodeAction(SHIFT, destinationState));
+            } else if (symbol instanceof NonTerminalSymbol) {
+                gotoTable[state * nonTerminals.size() + nonTerminalIndex.get(symbol)] = destinationState;
+            } else {
+                throw new IllegalStateException("Symbol is neither terminal nor non-terminal: " + symbol);
+            }
+        }
+        for (int state = 0; state < stateCount; state++) {
+            for (final LookaheadItem<T> lookaheadItem : states.get(state).getItems()) {
+                final Item item = lookaheadItem.getItem();
+                if (item.isComplete()) {
+                    final int action = encodeAction(REDUCE, productionIndex.get(item.getProduction()));
+                    for (final T lookahead : lookaheadItem.getLookaheadSet()) {
+                        putAction(state, terminals.indexOf(lookahead), action);
+                    }
+                } else {
+                    final Symbol symbol = item.getNextSymbol();
+                    if (endOfFileSymbol.equals(symbol)) {
+                        putAction(state, terminals.indexOf(endOfFileSymbol), encodeAction(ACCEPT, 0));
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Creates tables that were read from a stream, or compiled directly by a {@link CompactParserBuilder}.
+     */
+    ParseTable(final int stateCount, final TerminalIndex<T> terminals, final List<NonTerminalSymbol> nonTerminals,
+            final int[] actionTable, final int[] gotoTable, final List<Item> productions, final int[] productionTarget,
+            final long grammarFingerprint) {
+        super();
+        this.stateCount = stateCount;
+        this.terminals = terminals;
+        this.nonTerminals = nonTerminals;
+        this.actionTable = actionTable;
+        this.gotoTable = gotoTable;
+        final int productionCount = productions.size();
+        this.productionLength = new int[productionCount];
+        this.productionTarget = productionTarget;
+        this.productionHandlers = new ProductionHandler[productionCount];
+        this.rightHandSideHandlers = new RightHandSideHandler[productionCount];
+        this.productionNames = bindProductions(productions);
+        this.grammarFingerprint = grammarFingerprint;
+    }
+    
+    /**
+     * Fills in the lengths and handlers of the productions.
+     * 
+     * @param productions the productions, as items at position zero, in ordinal order
+     * @return the names of the productions
+     */
+    private List<String> bindProductions(final List<Item> productions) {
+        final List<String> names = new ArrayList<>(productions.size());
+        for (int i = 0; i < productions.size(); i++) {
+            final Item item = productions.get(i);
+            final Production production = item.getProduction();
+            productionLength[i] = production.getSymbols().size();
+            productionHandlers[i] = production.getProductionHandler();
+            if (productionHandlers[i] instanceof RightHandSideHandler) {
+                rightHandSideHandlers[i] = (RightHandSideHandler) productionHandlers[i];
+            }
+            names.add(describeProduction(item));
+        }
+        return Collections.unmodifiableList(names);
+    }
+    
+    /**
+     * Writes the tables in the binary format described in the class documentation.
+     * 
+     * @param output the destination for the tables
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if the tables were not created by a {@link Grammar}, or two terminals have the
+     *         same name
+     */
+    void write(final DataOutput output) throws IOException {
+        if (grammarFingerprint == null) {
+            throw new IllegalStateException("Only parsers created by a grammar can be saved.");
+        }
+        getTerminalsByName(terminals.getTerminals());
+        
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(grammarFingerprint);
+        output.writeInt(stateCount);
+        output.writeInt(terminals.size());
+        output.writeInt(nonTerminals.size());
+        output.writeInt(productionLength.length);
+        for (final T terminal : terminals.getTerminals()) {
+            output.writeUTF(terminal.toString());
+        }
+        for (int i = 0; i < productionLength.length; i++) {
+            output.writeInt(productionTarget[i]);
+            output.writeInt(productionLength[i]);
+        }
+        for (final int action : actionTable) {
+            output.writeInt(action);
+        }
+        for (final int destinationState : gotoTable) {
+            output.writeInt(destinationState);
+        }
+    }
+    
+    /**
+     * Reads tables written by {@link #write(DataOutput)}, binding the productions to the production handlers in the
+     * grammar.
+     * 
+     * @param input the source of the tables
+     * @param grammar a grammar with the same productions, start symbol, and end-of-file symbol as the one that created
+     *            the tables.  It does not need to be computed.
+     * @return the parsing tables
+     * @throws IOException if reading fails or the input is not a valid parse table
+     * @throws IllegalStateException if the tables were created by a different grammar
+     */
+    static <T extends TerminalSymbol> ParseTable<T> read(final DataInput input, final Grammar<T> grammar)
+            throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a parse table.");
+        }
+        final int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported parse table version: " + version);
+        }
+        final long fingerprint = input.readLong();
+        if (fingerprint != grammar.getFingerprint()) {
+            throw new IllegalStateException("The parse table was created from a different grammar.");
+        }
+        
+        final int stateCount = input.readInt();
+        final int terminalCount = input.readInt();
+        final int nonTerminalCount = input.readInt();
+        final int productionCount = input.readInt();
+        final List<Item> productions = grammar.getProductions();
+        final Map<String, T> terminalsByName = getTerminalsByName(grammar.getLexicon());
+        /*
+         * Bound every count by what the grammar could have produced before anything is allocated, so a corrupt header
+         * fails here instead of running out of memory.  A shifted state must also fit in the operand of an action.
+         */
+        if (stateCount <= 0 || stateCount > MAXIMUM_STATES || terminalCount <= 0
+                || terminalCount > terminalsByName.size() || nonTerminalCount < 0
+                || nonTerminalCount > countNonTerminals(productions) || productionCount != productions.size()) {
+            throw new IOException("Corrupt parse table header.");
+        }
+        if ((long) stateCount * Math.max(terminalCount, nonTerminalCount) > Integer.MAX_VALUE) {
+            throw new IOException("Corrupt parse table header: " + stateCount + " states are too many.");
+        }
+        
+        final List<T> terminalList = new ArrayList<>(terminalCount);
+        for (int i = 0; i < terminalCount; i++) {
+            final String name = input.readUTF();
+            final T terminal = terminalsByName.get(name);
+            if (terminal == null) {
+                throw new IllegalStateException("The parse table refers to an unknown terminal: " + name);
+            }
+            terminalList.add(terminal);
+        }
+        
+        final NonTerminalSymbol[] nonTerminals = new NonTerminalSymbol[nonTerminalCount];
+        final int[] productionTarget = new int[productionCount];
+        for (int i = 0; i < productionCount; i++) {
+            final Item item = productions.get(i);
+            productionTarget[i] = input.readInt();
+            final int length = input.readInt();
+            if (productionTarget[i] < 0 || productionTarget[i] >= nonTerminalCount
+                    || length != item.getProduction().getSymbols().size()) {
+                throw new IOException("Corrupt parse table production: " + i);
+            }
+            nonTerminals[productionTarget[i]] = item.getTarget();
+        }
+        
+        final int[] actionTable = new int[stateCount * terminalCount];
+        for (int i = 0; i < actionTable.length; i++) {
+            actionTable[i] = input.readInt();
+            if ( !isValidAction(actionTable[i], stateCount, productionCount)) {
+                throw new IOException("Corrupt parse table action in state " + i / terminalCount + ": "
+                        + actionTable[i]);
+            }
+        }
+        final int[] gotoTable = new int[stateCount * nonTerminalCount];
+        for (int i = 0; i < gotoTable.length; i++) {
+            gotoTable[i] = input.readInt();
+            if (gotoTable[i] < NO_STATE || gotoTable[i] >= stateCount) {
+                throw new IOException("Corrupt parse table goto in state " + i / nonTerminalCount + ": "
+                        + gotoTable[i]);
+            }
+        }
+        
+        return new ParseTable<>(stateCount, new TerminalIndex<>(terminalList), Arrays.asList(nonTerminals),
+                actionTable, gotoTable, productions, productionTarget, fingerprint);
+    }
+    
+    /**
+     * Counts the non-terminals that can appear in the tables of a grammar, which are the ones in its productions plus
+     * the synthetic start symbol.
+     * 
+     * @param productions the productions of the grammar
+     * @return the largest number of non-terminals that the tables can have
+     */
+    private static int countNonTerminals(final List<Item> productions) {
+        final Set<Symbol> nonTerminals = new HashSet<>();
+        for (final Item item : productions) {
+            nonTerminals.add(item.getTarget());
+            for (final Symbol symbol : item.getProduction().getSymbols()) {
+                if (symbol instanceof NonTerminalSymbol) {
+                    nonTerminals.add(symbol);
+                }
+            }
+        }
+        return nonTerminals.size() + 1;
+    }
+    
+    /**
+     * Checks that an encoded action read from saved tables refers to an existing state or production.
+     * 
+     * @param action the encoded action
+     * @param stateCount the number of parser states
+     * @param productionCount the number of productions
+     * @return {@code true} if the action could have been written by {@link #write(DataOutput)}
+     */
+    private static boolean isValidAction(final int action, final int stateCount, final int productionCount) {
+        final int operand = getActionOperand(action);
+        switch (getActionType(action)) {
+        case SHIFT:
+            return operand < stateCount;
+        case REDUCE:
+            return operand < productionCount;
+        case ERROR:
+        case ACCEPT:
+            return operand == 0;
+        default:
+            return false;
+        }
+    }
+    
+    /**
+     * Indexes terminals by their {@link Object#toString()}, which is how they are identified in saved tables.
+     * 
+     * @param terminals the terminals
+     * @return a map from terminal name to terminal
+     * @throws IllegalStateException if two terminals have the same name
+     */
+    private static <T extends TerminalSymbol> Map<String, T> getTerminalsByName(final Collection<T> terminals) {
+        final Map<String, T> terminalsByName = new HashMap<>(terminals.size() * 2);
+        for (final T terminal : terminals) {
+            final T previous = terminalsByName.put(terminal.toString(), terminal);
+            if (previous != null && !previous.equals(terminal)) {
+                throw new IllegalStateException("Terminals " + previous + " and " + terminal + " have the same name.");
+            }
+        }
+        return terminalsByName;
+    }
+    
+    private void addSymbol(final Symbol symbol, final Set<T> terminalSet, final Set<NonTerminalSymbol> nonTerminalSet) {
+        if (symbol instanceof TerminalSymbol) {
+            @SuppressWarnings("unchecked")
+            final T terminal = (T) symbol;
+            terminalSet.add(terminal);
+        } else if (symbol instanceof NonTerminalSymbol) {
+            nonTerminalSet.add((NonTerminalSymbol) symbol);
+        } else {
+            throw new IllegalStateException("Symbol is neither terminal nor non-terminal: " + symbol);
+        }
+    }
+    
+    private void putAction(final int state, final int terminal, final int action) {
+        final int index = state * terminals.size() + terminal;
+        final int previousAction = actionTable[index];
+        if (previousAction != ERROR && previousAction != action) {
+            throw new IllegalStateException("Conflict between actions " + describeAction(action) + " and "
+                    + describeAction(previousAction) + " in state " + state + " on symbol " + terminals.get(terminal));
+        }
+        actionTable[index] = action;
+    }
+    
+    /**
+     * Returns a human-readable description of an encoded action.
+     * 
+     * @param action the encoded action
+     * @return a description of the action
+     */
+    String describeAction(final int action) {
+        return describeAction(action, productionNames);
+    }
+    
+    /**
+     * Returns a human-readable description of an encoded action.
+     * 
+     * @param action the encoded action
+     * @param productionNames the descriptions of the productions, in ordinal order
+     * @return a description of the action
+     */
+    static String describeAction(final int action, final List<String> productionNames) {
+        switch (getActionType(action)) {
+        case SHIFT:
+            return "Shift(" + getActionOperand(action) + ")";
+        case REDUCE:
+            return "Reduce(" + productionNames.get(getActionOperand(action)) + ")";
+        case ACCEPT:
+            return "Accept";
+        default:
+            return "Error";
+        }
+    }
+    
+    /**
+     * Returns a human-readable description of a production.
+     * 
+     * @param item the production, as an item at position zero
+     * @return a description of the production
+     */
+    static String describeProduction(final Item item) {
+        return item.getTarget() + " -> " + item.getProduction();
+    }
+    
+    /**
+     * Returns the ordinal of the initial parser state.
+     * 
+     * @return the start state
+     */
+    int getStartState() {
+        return 0;
+    }
+    
+    /**
+     * Returns the terminal that marks the end of input.
+     * 
+     * @return the end-of-file symbol
+     */
+    T getEndOfFileSymbol() {
+        return terminals.get(0);
+    }
+    
+    /**
+     * Returns the fingerprint of the grammar that created the tables.
+     * 
+     * @return the grammar fingerprint, or {@code null} if the tables were not created by a {@link Grammar}
+     */
+    Long getGrammarFingerprint() {
+        return grammarFingerprint;
+    }
+    
+    int getStateCount() {
+        return stateCount;
+    }
+    
+    int getTerminalCount() {
+        return terminals.size();
+    }
+    
+    int getNonTerminalCount() {
+        return nonTerminals.size();
+    }
+    
+    int getProductionCount() {
+        return productionLength.length;
+    }
+    
+    /**
+     * Returns the ordinal for a terminal symbol, or {@code -1} if the terminal never appears in the tables.
+     * 
+     * @param terminal the terminal symbol
+     * @return the terminal ordinal
+     */
+    int getTerminalIndex(final T terminal) {
+        return terminals.indexOf(terminal);
+    }
+    
+    /**
+     * Returns the encoded action for a state and a terminal ordinal.
+     * 
+     * @param state the parser state
+     * @param terminal the terminal ordinal, or {@code -1} for an unknown terminal
+     * @return the encoded action
+     */
+    int getAction(final int state, final int terminal) {
+        if (terminal < 0) {
+            return ERROR;
+        }
+        return actionTable[state * terminals.size() + terminal];
+    }
+    
+    /**
+     * Returns the destination state after reducing to a non-terminal.
+     * 
+     * @param state the parser state uncovered by the reduction
+     * @param nonTerminal the non-terminal ordinal
+     * @return the destination state, or {@link #NO_STATE}
+     */
+    int getGoto(final int state, final int nonTerminal) {
+        return gotoTable[state * nonTerminals.size() + nonTerminal];
+    }
+    
+    int getProductionLength(final int production) {
+        return productionLength[production];
+    }
+    
+    int getProductionTarget(final int production) {
+        return productionTarget[production];
+    }
+    
+    ProductionHandler getProductionHandler(final int production) {
+        return productionHandlers[production];
+    }
+    
+    /**
+     * Returns the production handler if it accepts a {@link RightHandSide} view.
+     * 
+     * @param production the production ordinal
+     * @return the handler, or {@code null} if the handler requires a list
+     */
+    RightHandSideHandler getRightHandSideHandler(final int production) {
+        return rightHandSideHandlers[production];
+    }
+    
+    String getProductionName(final int production) {
+        return productionNames.get(production);
+    }
+    
+}
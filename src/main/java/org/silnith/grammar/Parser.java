@@ -1,96 +1,541 @@
 package org.silnith.grammar;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 
 /**
  * A parser for the language defined by a {@link Grammar}.  The generated parser is guaranteed to process any input stream
  * of terminal symbols in {@code O(n)} time.
  * 
+ * <p>A parser is immutable and thread-safe.  All the state of a parse is local to the call to {@link #parse(Lexer)},
+ * or to the {@link ParseSession} returned by {@link #newSession()}, so a single parser can be shared by any number of
+ * threads parsing concurrently.  The {@link ProductionHandler} implementations in the grammar are called from every
+ * one of those threads, so they must be thread-safe as well.
+ * 
  * @param <T> the concrete type of identifiers for terminal symbols
  * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
  */
 public class Parser<T extends TerminalSymbol> {
     
-    private final ParserState<T> startState;
+    private static final int INITIAL_CAPACITY = 32;
+    
+    private final ParseTable<T> parseTable;
     
     private final Token<T> finalToken;
     
+    private final GenerationStatistics generationStatistics;
+    
+    private final ParseMetrics metrics;
+    
+    private final HandlerProfiler handlerProfiler;
+    
     public Parser(final Set<ParserState<T>> parserStates, final Set<Edge<T>> edges, final ParserState<T> startState,
             final T endOfFileSymbol) {
         super();
         if (parserStates == null || edges == null || startState == null || endOfFileSymbol == null) {
         	throw new IllegalArgumentException();
         }
-        this.startState = startState;
+        this.parseTable = new ParseTable<>(parserStates, edges, startState, endOfFileSymbol);
         this.finalToken = new FinalToken<>(endOfFileSymbol);
-        
-        for (final Edge<T> edge : edges) {
-            final ParserState<T> parserState = edge.getInitialState();
-            final Symbol symbol = edge.getSymbol();
-            final ParserState<T> destinationState = edge.getFinalState();
+        this.generationStatistics = null;
+        this.metrics = null;
+        this.handlerProfiler = null;
+    }
+    
+    Parser(final ParseTable<T> parseTable) {
+        this(parseTable, null);
+    }
+    
+    Parser(final ParseTable<T> parseTable, final GenerationStatistics generationStatistics) {
+        super();
+        this.parseTable = parseTable;
+        this.finalToken = new FinalToken<>(parseTable.getEndOfFileSymbol());
+        this.generationStatistics = generationStatistics;
+        this.metrics = null;
+        this.handlerProfiler = null;
+    }
+    
+    private Parser(final Parser<T> parser, final ParseMetrics metrics, final HandlerProfiler handlerProfiler) {
+        super();
+        this.parseTable = parser.parseTable;
+        this.finalToken = parser.finalToken;
+        this.generationStatistics = parser.generationStatistics;
+        this.metrics = metrics;
+        this.handlerProfiler = handlerProfiler;
+    }
+    
+    ParseTable<T> getParseTable() {
+        return parseTable;
+    }
+    
+    /**
+     * Returns the timings and counts collected while the grammar generated this parser.
+     * 
+     * @return the generation statistics, or {@code null} if this parser was not generated by a {@link Grammar}, for
+     *         example if it was {@linkplain #load(InputStream, Grammar) loaded} from saved tables
+     */
+    public GenerationStatistics getGenerationStatistics() {
+        return generationStatistics;
+    }
+    
+    /**
+     * Returns a parser that shares the parsing tables of this one, but collects {@link ParseMetrics} for every parse
+     * it performs.  Metrics are collected by {@link #parse(Lexer)}, {@link #parseAll(Iterable)}, and the
+     * {@link ParserContext}s of the returned parser.  This parser is not affected, so parsing without metrics only
+     * pays for a check made once per parse.
+     * 
+     * @return a new parser with its own metrics
+     * @see #getMetrics()
+     */
+    public Parser<T> withMetrics() {
+        return new Parser<>(this, new ParseMetrics(getProductionNames()), handlerProfiler);
+    }
+    
+    /**
+     * Returns the metrics collected by this parser.
+     * 
+     * @return the parse metrics, or {@code null} if this parser was not created by {@link #withMetrics()}
+     */
+    public ParseMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Returns a parser that shares the parsing tables of this one, but measures the time and memory spent in the
+     * {@link ProductionHandler}s for every reduction it performs, whether by {@link #parse(Lexer)}, a
+     * {@link ParserContext}, or a {@link ParseSession}.  This parser is not affected.
+     * 
+     * @return a new parser with its own handler profiler
+     * @see #getHandlerProfiler()
+     */
+    public Parser<T> withHandlerProfiling() {
+        return new Parser<>(this, metrics, new HandlerProfiler(getProductionNames()));
+    }
+    
+    /**
+     * Returns the handler profiler of this parser.
+     * 
+     * @return the handler profiler, or {@code null} if this parser was not created by {@link #withHandlerProfiling()}
+     */
+    public HandlerProfiler getHandlerProfiler() {
+        return handlerProfiler;
+    }
+    
+    private List<String> getProductionNames() {
+        final List<String> productionNames = new ArrayList<>(parseTable.getProductionCount());
+        for (int production = 0; production < parseTable.getProductionCount(); production++) {
+            productionNames.add(parseTable.getProductionName(production));
+        }
+        return productionNames;
+    }
+    
+    /**
+     * Writes the parsing tables to a stream so that the parser can later be recreated with
+     * {@link #load(InputStream, Grammar)} without regenerating it.  Terminal symbols are identified by their
+     * {@link Object#toString()}, so every terminal must have a distinct string representation that does not change
+     * from one run to the next.  The stream is flushed but not closed.
+     * 
+     * @param outputStream the destination for the parsing tables
+     * @throws IOException if writing to the stream fails
+     * @throws IllegalStateException if the parser was not created by a {@link Grammar}, or two terminals have the same
+     *         string representation
+     */
+    public void save(final OutputStream outputStream) throws IOException {
+        final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        parseTable.write(dataOutputStream);
+        dataOutputStream.flush();
+    }
+    
+    /**
+     * Recreates a parser from tables written by {@link #save(OutputStream)}.  The grammar provides the production
+     * handlers, and must have the same productions added in the same order, the same start symbol, and the same
+     * end-of-file symbol as the grammar that created the saved parser.  It does not need to be computed, so this is
+     * much faster than {@link Grammar#createParser()}.  The stream is not closed, but it is read through a buffer,
+     * so anything that follows the tables in the stream may also be consumed.
+     * 
+     * @param <T> the concrete type of identifiers for terminal symbols
+     * @param inputStream the source of the parsing tables
+     * @param grammar the grammar that the saved parser was created from
+     * @return a parser equivalent to the one that was saved
+     * @throws IOException if reading from the stream fails or it does not contain parsing tables
+     * @throws IllegalStateException if the saved parser was created from a different grammar, as determined by
+     *         {@link Grammar#getFingerprint()}
+     */
+    public static <T extends TerminalSymbol> Parser<T> load(final InputStream inputStream, final Grammar<T> grammar)
+            throws IOException {
+        if (inputStream == null || grammar == null) {
+            throw new IllegalArgumentException();
+        }
+        final DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        return new Parser<>(ParseTable.read(dataInputStream, grammar));
+    }
+    
+    /**
+     * Parses a sequence of terminal symbols and returns an abstract syntax tree.  This runs in {@code O(n)} time.
+     * 
+     * @param inputLexer the lexer that generates an input sequence of terminal symbols
+     * @return an abstract syntax tree as constructed by the various {@link ProductionHandler} implementations used in
+     *         the {@link Grammar}
+     */
+    public Object parse(final Lexer<T> inputLexer) {
+        return parse(inputLexer, new ParserData());
+    }
+    
+    /**
+     * Parses a sequence of terminal symbols using the given parser stacks, which must be empty.  If this parser has
+     * metrics or the Flight Recorder is recording parses, what the parse did is added to them.
+     * 
+     * @param inputLexer the lexer that generates an input sequence of terminal symbols
+     * @param parserData the parser stacks
+     * @return an abstract syntax tree
+     */
+    Object parse(final Lexer<T> inputLexer, final ParserData parserData) {
+        /*
+         * Decided once, before the loop, so that parsing without metrics or Flight Recorder only pays for branches
+         * that are never taken.
+         */
+        final boolean measure = metrics != null || FlightRecorderEvent.isParseEnabled();
+        final ReductionCounter reductionCounter =
+                metrics == null ? null : parserData.getReductionCounter(parseTable.getProductionCount());
+        final Object event = measure ? FlightRecorderEvent.PARSE.begin() : null;
+        final long startTime = measure ? System.nanoTime() : 0;
+        long tokens = 0;
+        long reductions = 0;
+        int stackDepth = 0;
+        boolean accepted = false;
+        try {
+            final Iterator<Token<T>> iterator = inputLexer.iterator();
+            parserData.pushState(parseTable.getStartState());
+            stackDepth = parserData.getStateDepth();
             
-            final Action<T> action;
-            if (symbol instanceof TerminalSymbol) {
-                action = new Shift<>(destinationState);
-            } else if (symbol instanceof NonTerminalSymbol) {
-                action = new Goto<>(destinationState);
-            } else {
-                throw new IllegalStateException("Symbol is neither terminal nor non-terminal: " + symbol);
-            }
-            parserState.putAction(symbol, action);
-        }
-        for (final ParserState<T> parserState : parserStates) {
-            for (final LookaheadItem<T> lookaheadItem : parserState.getItems()) {
-                final Item item = lookaheadItem.getItem();
-                if (item.isComplete()) {
-                    final Action<T> action = new Reduce<>(lookaheadItem);
-                    for (final T lookahead : lookaheadItem.getLookaheadSet()) {
-                        parserState.putAction(lookahead, action);
+            Token<T> token = nextToken(iterator);
+            int terminal = parseTable.getTerminalIndex(token.getSymbol());
+            while (true) {
+                final int state = parserData.peekState();
+                final int action = parseTable.getAction(state, terminal);
+                switch (ParseTable.getActionType(action)) {
+                case ParseTable.SHIFT: {
+                    parserData.pushState(ParseTable.getActionOperand(action));
+                    parserData.pushData(token);
+                    token = nextToken(iterator);
+                    terminal = parseTable.getTerminalIndex(token.getSymbol());
+                    if (measure) {
+                        tokens++;
                     }
-                } else {
-                    final Symbol symbol = item.getNextSymbol();
-                    if (endOfFileSymbol.equals(symbol)) {
-                        final Action<T> action = new Accept<>();
-                        parserState.putAction(symbol, action);
+                } break;
+                case ParseTable.REDUCE: {
+                    final int production = ParseTable.getActionOperand(action);
+                    reduce(parserData, production);
+                    if (measure) {
+                        if (reductionCounter != null) {
+                            reductionCounter.count(production);
+                        }
+                        reductions++;
                     }
+                } break;
+                case ParseTable.ACCEPT: {
+                    accepted = true;
+                    return parserData.popData();
+                }
+                default: {
+                    throw new IllegalStateException(
+                            "No parse action for symbol: " + token.getSymbol() + " and state: " + state);
+                }
                 }
+                if (measure) {
+                    /*
+                     * Empty productions deepen the stack as well as shifts, so the depth is checked after every
+                     * action.
+                     */
+                    stackDepth = Math.max(stackDepth, parserData.getStateDepth());
+                }
+            }
+        } finally {
+            if (metrics != null) {
+                metrics.record(tokens, reductionCounter, reductions, stackDepth, System.nanoTime() - startTime,
+                        accepted);
+            }
+            if (event != null) {
+                FlightRecorderEvent.PARSE.commit(event, tokens, reductions, accepted);
             }
         }
     }
     
     /**
-     * Parses a sequence of terminal symbols and returns an abstract syntax tree.  This runs in {@code O(n)} time.
+     * Returns the next token of the input, or the end-of-file token once the input is exhausted.
+     */
+    private Token<T> nextToken(final Iterator<Token<T>> iterator) {
+        if (iterator.hasNext()) {
+            return iterator.next();
+        } else {
+            return finalToken;
+        }
+    }
+    
+    /**
+     * Parses a sequence of terminal symbols without building an abstract syntax tree.  Instead of calling the
+     * {@link ProductionHandler}s, every reduction is reported to a listener along with the span of tokens it covers.
+     * No data objects are kept, so the memory used is proportional to the nesting depth of the input rather than to
+     * its length.  This runs in {@code O(n)} time.
      * 
      * @param inputLexer the lexer that generates an input sequence of terminal symbols
-     * @return an abstract syntax tree as constructed by the various {@link ProductionHandler} implementations used in
-     *         the {@link Grammar}
+     * @param listener the listener to receive the reductions
+     * @throws IllegalStateException if the input is not a sentence of the language
      */
-    public Object parse(final Lexer<T> inputLexer) {
-        ParserData<T> parserData = new ParserData<>();
+    public void parse(final Lexer<T> inputLexer, final ReductionListener listener) {
+        if (inputLexer == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
+        /*
+         * A parallel stack of the position of the first token covered by each state on the stack.
+         */
+        int[] stateStack = new int[INITIAL_CAPACITY];
+        long[] startStack = new long[INITIAL_CAPACITY];
+        int depth = 0;
         
-        final TempLexer<T> lexer = new TempLexer<>(inputLexer.iterator(), finalToken);
-        parserData.setState(startState);
+        final Iterator<Token<T>> iterator = inputLexer.iterator();
+        stateStack[depth] = parseTable.getStartState();
+        startStack[depth] = 0;
+        depth++;
+        
+        long position = 0;
+        Token<T> token = nextToken(iterator);
+        int terminal = parseTable.getTerminalIndex(token.getSymbol());
+        while (true) {
+            final int state = stateStack[depth - 1];
+            final int action = parseTable.getAction(state, terminal);
+            final int destinationState;
+            final long start;
+            switch (ParseTable.getActionType(action)) {
+            case ParseTable.SHIFT: {
+                destinationState = ParseTable.getActionOperand(action);
+                start = position;
+                position++;
+                token = nextToken(iterator);
+                terminal = parseTable.getTerminalIndex(token.getSymbol());
+            } break;
+            case ParseTable.REDUCE: {
+                final int production = ParseTable.getActionOperand(action);
+                final int length = parseTable.getProductionLength(production);
+                start = length == 0 ? position : startStack[depth - length];
+                listener.reduced(production, start, position);
+                depth -= length;
+                destinationState = parseTable.getGoto(stateStack[depth - 1], parseTable.getProductionTarget(production));
+                assert destinationState != ParseTable.NO_STATE;
+            } break;
+            case ParseTable.ACCEPT: {
+                return;
+            }
+            default: {
+                throw new IllegalStateException(
+                        "No parse action for symbol: " + token.getSymbol() + " and state: " + state);
+            }
+            }
+            
+            if (depth == stateStack.length) {
+                stateStack = Arrays.copyOf(stateStack, depth * 2);
+                startStack = Arrays.copyOf(startStack, depth * 2);
+            }
+            stateStack[depth] = destinationState;
+            startStack[depth] = start;
+            depth++;
+        }
+    }
+    
+    /**
+     * Checks whether a sequence of terminal symbols is a sentence of the language, without building an abstract syntax
+     * tree or calling any {@link ProductionHandler}s.  Only the parser states are kept, so tokens are released as soon
+     * as their symbols have been looked up.  This runs in {@code O(n)} time.
+     * 
+     * @param inputLexer the lexer that generates an input sequence of terminal symbols
+     * @return {@code -1} if the input is a sentence of the language, otherwise the position of the first token that is
+     *         not valid, counting from zero.  If the input ends too soon, this is the number of tokens in the input.
+     */
+    public long recognize(final Lexer<T> inputLexer) {
+        if (inputLexer == null) {
+            throw new IllegalArgumentException();
+        }
+        int[] stateStack = new int[INITIAL_CAPACITY];
+        int depth = 0;
+        stateStack[depth++] = parseTable.getStartState();
         
-        do {
-            parserData.pushState();
-            final Token<T> token = lexer.getToken();
-            parserData.setReadyForShift(false);
-            final T lookaheadSymbol = token.getSymbol();
-            do {
-                final Set<Action<T>> actions = parserData.getActions(lookaheadSymbol);
-                assert actions != null;
+        final Iterator<Token<T>> iterator = inputLexer.iterator();
+        final int endOfFile = parseTable.getTerminalIndex(parseTable.getEndOfFileSymbol());
+        long position = 0;
+        int terminal = iterator.hasNext() ? parseTable.getTerminalIndex(iterator.next().getSymbol()) : endOfFile;
+        while (true) {
+            final int action = parseTable.getAction(stateStack[depth - 1], terminal);
+            final int destinationState;
+            switch (ParseTable.getActionType(action)) {
+            case ParseTable.SHIFT: {
+                destinationState = ParseTable.getActionOperand(action);
+                position++;
+                terminal = iterator.hasNext() ? parseTable.getTerminalIndex(iterator.next().getSymbol()) : endOfFile;
+            } break;
+            case ParseTable.REDUCE: {
+                final int production = ParseTable.getActionOperand(action);
+                depth -= parseTable.getProductionLength(production);
+                destinationState = parseTable.getGoto(stateStack[depth - 1], parseTable.getProductionTarget(production));
+                assert destinationState != ParseTable.NO_STATE;
+            } break;
+            case ParseTable.ACCEPT: {
+                return -1;
+            }
+            default: {
+                return position;
+            }
+            }
+            
+            if (depth == stateStack.length) {
+                stateStack = Arrays.copyOf(stateStack, depth * 2);
+            }
+            stateStack[depth++] = destinationState;
+        }
+    }
+    
+    /**
+     * Creates reusable parser stacks for parsing many inputs one after another on a single thread.
+     * 
+     * @return a new parser context
+     */
+    public ParserContext<T> newContext() {
+        return new ParserContext<>(this);
+    }
+    
+    /**
+     * Parses each of a sequence of inputs, reusing the same parser stacks for all of them.  This is much faster than
+     * calling {@link #parse(Lexer)} for each input when the inputs are short.
+     * 
+     * @param inputLexers the lexers for the inputs
+     * @return the abstract syntax trees, in the same order as the inputs
+     * @throws IllegalStateException if any input is not a sentence of the language
+     */
+    public List<Object> parseAll(final Iterable<? extends Lexer<T>> inputLexers) {
+        if (inputLexers == null) {
+            throw new IllegalArgumentException();
+        }
+        final ParserContext<T> context = newContext();
+        final List<Object> results = new ArrayList<>();
+        for (final Lexer<T> inputLexer : inputLexers) {
+            results.add(context.parse(inputLexer));
+        }
+        return results;
+    }
+    
+    /**
+     * Parses each of a list of inputs, dividing them into batches that are parsed concurrently by the executor.  Each
+     * batch reuses one set of parser stacks, as in {@link #parseAll(Iterable)}.  The {@link ProductionHandler}s are
+     * called from the executor's threads.
+     * 
+     * @param inputLexers the lexers for the inputs
+     * @param executorService the executor that parses the batches
+     * @param batchSize the number of inputs in each batch
+     * @return the abstract syntax trees, in the same order as the inputs
+     * @throws InterruptedException if the thread is interrupted while waiting for the batches to be parsed
+     * @throws ExecutionException if parsing any input fails, for example because it is not a sentence of the language
+     */
+    public List<Object> parseAll(final List<? extends Lexer<T>> inputLexers, final ExecutorService executorService,
+            final int batchSize) throws InterruptedException, ExecutionException {
+        if (inputLexers == null || executorService == null) {
+            throw new IllegalArgumentException();
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        final List<Future<List<Object>>> futures = new ArrayList<>();
+        for (int start = 0; start < inputLexers.size(); start += batchSize) {
+            final List<? extends Lexer<T>> batch =
+                    inputLexers.subList(start, Math.min(start + batchSize, inputLexers.size()));
+            futures.add(executorService.submit(new Callable<List<Object>>() {
                 
-                final Action<T> action = parserData.getAction(lookaheadSymbol);
-                parserData = action.perform(parserData);
-            } while ( !parserData.isDone() && !parserData.isReadyForShift());
-            if (parserData.isReadyForShift()) {
-                parserData.pushData(token);
+                @Override
+                public List<Object> call() {
+                    return parseAll(batch);
+                }
+                
+            }));
+        }
+        
+        final List<Object> results = new ArrayList<>(inputLexers.size());
+        try {
+            for (final Future<List<Object>> future : futures) {
+                results.addAll(future.get());
+            }
+        } finally {
+            for (final Future<List<Object>> future : futures) {
+                future.cancel(true);
             }
-        } while ( !parserData.isDone());
-        parserData.popState();
-        final Object data = parserData.popData();
-        return data;
+        }
+        return results;
+    }
+    
+    /**
+     * Starts an incremental parse that is driven by pushing tokens into it instead of pulling them from a lexer.
+     * The returned session is not thread-safe, but any number of sessions from the same parser may be used at once.
+     * 
+     * @return a new parse session positioned at the start of the input
+     */
+    public ParseSession<T> newSession() {
+        return new ParseSession<>(this);
+    }
+    
+    /**
+     * Apply a production reduction to the stack.  This removes the symbols for each element of the production,
+     * passes them through the production handler, and puts the output of the production handler onto the stack.
+     * 
+     * @param parserData the parser stacks
+     * @param production the production ordinal
+     */
+    void reduce(final ParserData parserData, final int production) {
+        final int length = parseTable.getProductionLength(production);
+        final RightHandSideHandler rightHandSideHandler = parseTable.getRightHandSideHandler(production);
+        final Object newDatum;
+        if (rightHandSideHandler != null) {
+            /*
+             * The handler reads directly from the data stack, so the symbols are popped only after it returns.
+             */
+            final RightHandSide rightHandSide = parserData.peekData(length);
+            if (handlerProfiler == null) {
+                newDatum = rightHandSideHandler.handleReduction(rightHandSide);
+            } else {
+                newDatum = handlerProfiler.handleReduction(production, rightHandSideHandler, rightHandSide);
+            }
+            parserData.popData(length);
+        } else {
+            /*
+             * Handlers are allowed to keep the list they are given, so it cannot be shared between reductions.
+             */
+            final List<Object> rightHandSide = new ArrayList<>(length);
+            parserData.popData(length, rightHandSide);
+            final ProductionHandler productionHandler = parseTable.getProductionHandler(production);
+            if (handlerProfiler == null) {
+                newDatum = productionHandler.handleReduction(rightHandSide);
+            } else {
+                newDatum = handlerProfiler.handleReduction(production, productionHandler, rightHandSide);
+            }
+        }
+        parserData.popStates(length);
+        
+        final int destinationState = parseTable.getGoto(parserData.peekState(), parseTable.getProductionTarget(production));
+        assert destinationState != ParseTable.NO_STATE;
+        
+        parserData.pushState(destinationState);
+        parserData.pushData(newDatum);
     }
     
 }
@@ -0,0 +1,48 @@
+package org.silnith.grammar;
+
+/**
+ * Reusable parser stacks for parsing many inputs one after another.  Each call to {@link Parser#parse(Lexer)}
+ * allocates new stacks, which dominates the cost of parsing when the inputs are only a few tokens long.  A context
+ * keeps its stacks between calls to {@link #parse(Lexer)}, so once they have grown to the deepest nesting of the
+ * inputs, parsing allocates nothing but what the {@link ProductionHandler}s create.
+ * 
+ * <p>A context is not thread-safe.  Each thread that parses should use its own context, but any number of contexts
+ * may be created from the same {@link Parser}.
+ * 
+ * @param <T> the concrete type of identifiers for terminal symbols
+ * @see Parser#newContext()
+ * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
+ */
+public class ParserContext<T extends TerminalSymbol> {
+    
+    private final Parser<T> parser;
+    
+    private final ParserData parserData;
+    
+    ParserContext(final Parser<T> parser) {
+        super();
+        this.parser = parser;
+        this.parserData = new ParserData();
+    }
+    
+    /**
+     * Parses a sequence of terminal symbols and returns an abstract syntax tree, reusing the stacks of this context.
+     * This runs in {@code O(n)} time.
+     * 
+     * @param inputLexer the lexer that generates an input sequence of terminal symbols
+     * @return an abstract syntax tree as constructed by the various {@link ProductionHandler} implementations used in
+     *         the {@link Grammar}
+     * @throws IllegalStateException if the input is not a sentence of the language
+     */
+    public Object parse(final Lexer<T> inputLexer) {
+        if (inputLexer == null) {
+            throw new IllegalArgumentException();
+        }
+        /*
+         * A previous parse that failed may have left symbols on the stacks.
+         */
+        parserData.clear();
+        return parser.parse(inputLexer, parserData);
+    }
+    
+}
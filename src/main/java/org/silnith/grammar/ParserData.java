@@ -1,70 +1,161 @@
 package org.silnith.grammar;
 
-import java.util.Set;
+import java.util.Arrays;
+import java.util.List;
 
-import org.silnith.grammar.util.LinkedNode;
-
-class ParserData<T extends TerminalSymbol> {
-
-    private ParserState<T> state;
+/**
+ * The mutable state of a single parse.  This is the stack of parser state ordinals and the parallel stack of data
+ * objects produced by shifts and reductions.
+ * 
+ * <p>Both stacks are plain arrays that grow by doubling and are never shrunk, so once a parse has reached its maximum
+ * nesting depth, shifting and reducing do not allocate anything.
+ */
+class ParserData {
+    
+    /**
+     * A window onto the top of the data stack.  The same instance is reused for every reduction.
+     */
+    private class DataStackWindow implements RightHandSide {
+        
+        private int base;
+        
+        private int size;
+        
+        @Override
+        public int size() {
+            return size;
+        }
+        
+        @Override
+        public Object get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return dataStack[base + index];
+        }
+        
+        @Override
+        public String toString() {
+            return String.valueOf(Arrays.asList(dataStack).subList(base, base + size));
+        }
+        
+    }
+    
+    private static final int INITIAL_CAPACITY = 32;
+    
+    private int[] stateStack;
+    
+    private int stateDepth;
     
-    private LinkedNode<ParserState<T>> stateStack;
+    private Object[] dataStack;
     
-    private LinkedNode<DataStackElement> dataStack;
+    private int dataDepth;
     
-    private boolean readyForShift;
+    private final DataStackWindow window;
     
-    private boolean done;
+    private ReductionCounter reductionCounter;
     
-    boolean isReadyForShift() {
-        return readyForShift;
+    ParserData() {
+        super();
+        this.stateStack = new int[INITIAL_CAPACITY];
+        this.stateDepth = 0;
+        this.dataStack = new Object[INITIAL_CAPACITY];
+        this.dataDepth = 0;
+        this.window = new DataStackWindow();
     }
     
-    void setReadyForShift(final boolean readyForShift) {
-        this.readyForShift = readyForShift;
+    void pushData(final Object datum) {
+        if (dataDepth == dataStack.length) {
+            dataStack = Arrays.copyOf(dataStack, dataDepth * 2);
+        }
+        dataStack[dataDepth++] = datum;
     }
     
-    boolean isDone() {
-        return done;
+    Object popData() {
+        final Object datum = dataStack[--dataDepth];
+        dataStack[dataDepth] = null;
+        return datum;
     }
     
-    void setDone() {
-        done = true;
+    /**
+     * Copies the top elements of the data stack, bottom-most first, into a list and then removes them from the stack.
+     * 
+     * @param count the number of elements to remove
+     * @param destination the list to receive the elements
+     */
+    void popData(final int count, final List<Object> destination) {
+        final int base = dataDepth - count;
+        for (int i = base; i < dataDepth; i++) {
+            destination.add(dataStack[i]);
+        }
+        Arrays.fill(dataStack, base, dataDepth, null);
+        dataDepth = base;
     }
-
-    Action<T> getAction(final Symbol symbol) {
-        return state.getAction(symbol);
+    
+    /**
+     * Returns a view of the top elements of the data stack, bottom-most first.  The view is only valid until the data
+     * stack is next modified.
+     * 
+     * @param count the number of elements in the view
+     * @return a view of the top of the data stack
+     */
+    RightHandSide peekData(final int count) {
+        window.base = dataDepth - count;
+        window.size = count;
+        return window;
     }
     
-    Set<Action<T>> getActions(final Symbol symbol) {
-        return state.getActions(symbol);
+    /**
+     * Removes the top elements of the data stack.
+     * 
+     * @param count the number of elements to remove
+     */
+    void popData(final int count) {
+        final int base = dataDepth - count;
+        Arrays.fill(dataStack, base, dataDepth, null);
+        dataDepth = base;
     }
-
-    void pushData(final Object datum) {
-        dataStack = new LinkedNode<>(new DataStackElement(datum), dataStack);
+    
+    /**
+     * Empties both stacks, keeping the arrays that have already been allocated.
+     */
+    void clear() {
+        Arrays.fill(dataStack, 0, dataDepth, null);
+        dataDepth = 0;
+        stateDepth = 0;
     }
-
-    Object popData() {
-        final DataStackElement datum = dataStack.getFirst();
-        dataStack = dataStack.getNext();
-        final Object abstractSyntaxTreeElement = datum.getAbstractSyntaxTreeElement();
-        return abstractSyntaxTreeElement;
+    
+    int peekState() {
+        return stateStack[stateDepth - 1];
     }
-
-    void setState(final ParserState<T> destinationState) {
-        state = destinationState;
+    
+    void pushState(final int state) {
+        if (stateDepth == stateStack.length) {
+            stateStack = Arrays.copyOf(stateStack, stateDepth * 2);
+        }
+        stateStack[stateDepth++] = state;
     }
-
-    ParserState<T> peekState() {
-        return stateStack.getFirst();
+    
+    void popStates(final int count) {
+        stateDepth -= count;
     }
-
-    void pushState() {
-        stateStack = new LinkedNode<ParserState<T>>(state, stateStack);
+    
+    int getStateDepth() {
+        return stateDepth;
     }
-
-    void popState() {
-        stateStack = stateStack.getNext();
+    
+    /**
+     * Returns the per-parse reduction counts used when collecting {@link ParseMetrics}.  The counts are created the
+     * first time they are needed, and kept along with the stacks.
+     * 
+     * @param productionCount the number of productions in the grammar
+     * @return the reduction counts
+     */
+    ReductionCounter getReductionCounter(final int productionCount) {
+        if (reductionCounter == null || reductionCounter.getProductionCount() != productionCount) {
+            reductionCounter = new ReductionCounter(productionCount);
+        }
+        return reductionCounter;
     }
     
-}
\ No newline at end of file
+}
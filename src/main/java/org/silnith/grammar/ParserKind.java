@@ -0,0 +1,31 @@
+package org.silnith.grammar;
+
+/**
+ * The kinds of parser that a {@link Grammar} can create.
+ * 
+ * @see Grammar#createParser(ParserKind)
+ */
+public enum ParserKind {
+    
+    /**
+     * A canonical LR(1) parser.  This accepts any LR(1) grammar, but may have many parser states that differ only in
+     * their look-ahead sets.
+     */
+    LR1,
+    
+    /**
+     * An LALR(1) parser.  This has one parser state for each LR(0) state, with the look-ahead sets of all the
+     * canonical LR(1) states that share it merged together.  Some LR(1) grammars are not LALR(1), in which case
+     * creating the parser fails with a conflict.
+     */
+    LALR1,
+    
+    /**
+     * A canonical LR(1) parser with every group of parser states that differ only in look-ahead merged, wherever
+     * merging does not create a conflict.  This accepts any LR(1) grammar, and for LALR(1) grammars it has about as
+     * many parser states as an LALR(1) parser.  Creating it still requires computing the canonical LR(1) states
+     * first.
+     */
+    MINIMAL_LR1,
+    
+}
@@ -0,0 +1,204 @@
+package org.silnith.grammar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Generates Java source code for a class that contains the parsing tables of a {@link Parser}.  The generated class
+ * has a single method, {@code createParser(Grammar)}, that binds the tables to the production handlers of a grammar
+ * the same way that {@link Parser#load(java.io.InputStream, Grammar)} does, so the grammar never needs to be computed
+ * at run time.
+ * 
+ * <p>The tables are stored in the same format as {@link Parser#save(java.io.OutputStream)}, encoded one byte per
+ * character in string constants.  String constants are kept in the class constant pool, so unlike array initializers
+ * they do not run into the size limit on methods, and decoding them is a simple copy.
+ * 
+ * <p>This can be run as a program, which makes it easy to call from a build.  See {@link #main(String[])}.
+ */
+public class ParserSourceGenerator {
+    
+    private static final String sourceClass = ParserSourceGenerator.class.getName();
+    
+    /**
+     * The number of table bytes in each string constant.  The constant pool limits each string to 65535 bytes of
+     * modified UTF-8, and each table byte takes at most two.
+     */
+    private static final int CHUNK_LENGTH = 16384;
+    
+    /**
+     * The number of table bytes on each line of generated source.
+     */
+    private static final int LINE_LENGTH = 24;
+    
+    private final Logger logger;
+    
+    public ParserSourceGenerator() {
+        super();
+        this.logger = Logger.getLogger(sourceClass);
+    }
+    
+    /**
+     * Writes the source code for a class containing the parsing tables of a parser.
+     * 
+     * @param parser a parser created by a {@link Grammar}
+     * @param qualifiedClassName the fully-qualified name of the class to generate
+     * @param writer the destination for the source code
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if the parser was not created by a {@link Grammar}
+     */
+    public void generate(final Parser<?> parser, final String qualifiedClassName, final Writer writer)
+            throws IOException {
+        final String sourceMethod = "generate";
+        logger.entering(sourceClass, sourceMethod, new Object[] {parser, qualifiedClassName});
+        
+        if (parser == null || qualifiedClassName == null || writer == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        final ParseTable<?> parseTable = parser.getParseTable();
+        final ByteArrayOutputStream tableBytes = new ByteArrayOutputStream();
+        final DataOutputStream dataOutputStream = new DataOutputStream(tableBytes);
+        parseTable.write(dataOutputStream);
+        dataOutputStream.flush();
+        final byte[] tables = tableBytes.toByteArray();
+        
+        final int lastDot = qualifiedClassName.lastIndexOf('.');
+        final String packageName = lastDot < 0 ? null : qualifiedClassName.substring(0, lastDot);
+        final String simpleName = qualifiedClassName.substring(lastDot + 1);
+        
+        writer.write("// Generated by " + sourceClass + ".  Do not edit.\n");
+        if (packageName != null) {
+            writer.write("package " + packageName + ";\n");
+        }
+        writer.write("\n");
+        writer.write("import java.io.ByteArrayInputStream;\n");
+        writer.write("import java.io.IOException;\n");
+        writer.write("\n");
+        writer.write("import org.silnith.grammar.Grammar;\n");
+        writer.write("import org.silnith.grammar.Parser;\n");
+        writer.write("import org.silnith.grammar.TerminalSymbol;\n");
+        writer.write("\n");
+        writer.write("/**\n");
+        writer.write(" * Parsing tables with " + parseTable.getStateCount() + " states, " + parseTable.getTerminalCount()
+                + " terminals, and " + parseTable.getProductionCount() + " productions.\n");
+        writer.write(" */\n");
+        writer.write("public final class " + simpleName + " {\n");
+        writer.write("    \n");
+        writer.write("    /**\n");
+        writer.write("     * The fingerprint of the grammar that the tables were generated from.\n");
+        writer.write("     */\n");
+        writer.write("    public static final long GRAMMAR_FINGERPRINT = 0x"
+                + Long.toHexString(parseTable.getGrammarFingerprint()) + "L;\n");
+        writer.write("    \n");
+        writer.write("    private static final int TABLE_LENGTH = " + tables.length + ";\n");
+        writer.write("    \n");
+        writer.write("    private static final String[] TABLES = {\n");
+        for (int chunkStart = 0; chunkStart < tables.length; chunkStart += CHUNK_LENGTH) {
+            final int chunkEnd = Math.min(chunkStart + CHUNK_LENGTH, tables.length);
+            for (int lineStart = chunkStart; lineStart < chunkEnd; lineStart += LINE_LENGTH) {
+                final int lineEnd = Math.min(lineStart + LINE_LENGTH, chunkEnd);
+                writer.write(lineStart == chunkStart ? "            \"" : "            + \"");
+                for (int i = lineStart; i < lineEnd; i++) {
+                    writeByte(writer, tables[i]);
+                }
+                writer.write(lineEnd == chunkEnd ? "\",\n" : "\"\n");
+            }
+        }
+        writer.write("    };\n");
+        writer.write("    \n");
+        writer.write("    private " + simpleName + "() {\n");
+        writer.write("        super();\n");
+        writer.write("    }\n");
+        writer.write("    \n");
+        writer.write("    /**\n");
+        writer.write("     * Creates a parser from the tables, using the production handlers of the grammar.\n");
+        writer.write("     * \n");
+        writer.write("     * @param <T> the concrete type of identifiers for terminal symbols\n");
+        writer.write("     * @param grammar the grammar that the tables were generated from\n");
+        writer.write("     * @return a parser for the grammar\n");
+        writer.write("     * @throws IllegalStateException if the grammar has changed since the tables were generated\n");
+        writer.write("     */\n");
+        writer.write("    public static <T extends TerminalSymbol> Parser<T> createParser(final Grammar<T> grammar) {\n");
+        writer.write("        final byte[] tables = new byte[TABLE_LENGTH];\n");
+        writer.write("        int index = 0;\n");
+        writer.write("        for (final String chunk : TABLES) {\n");
+        writer.write("            for (int i = 0; i < chunk.length(); i++) {\n");
+        writer.write("                tables[index++] = (byte) chunk.charAt(i);\n");
+        writer.write("            }\n");
+        writer.write("        }\n");
+        writer.write("        try {\n");
+        writer.write("            return Parser.load(new ByteArrayInputStream(tables), grammar);\n");
+        writer.write("        } catch (final IOException e) {\n");
+        writer.write("            throw new IllegalStateException(\"Corrupt generated parse tables.\", e);\n");
+        writer.write("        }\n");
+        writer.write("    }\n");
+        writer.write("    \n");
+        writer.write("}\n");
+        writer.flush();
+        
+        logger.logp(Level.FINE, sourceClass, sourceMethod, "generated {0} with {1} bytes of tables", new Object[] {qualifiedClassName, tables.length});
+        
+        logger.exiting(sourceClass, sourceMethod);
+    }
+    
+    /**
+     * Writes a byte as part of a Java string literal.  Printable ASCII is written as is, and everything else as a
+     * three-digit octal escape so that a following digit cannot extend it.
+     */
+    private static void writeByte(final Writer writer, final byte b) throws IOException {
+        final int c = b & 0xFF;
+        if (c >= 0x20 && c < 0x7F && c != '"' && c != '\\') {
+            writer.write(c);
+        } else {
+            writer.write('\\');
+            writer.write('0' + (c >> 6));
+            writer.write('0' + (c >> 3 & 7));
+            writer.write('0' + (c & 7));
+        }
+    }
+    
+    /**
+     * Generates the source code for the parser of a grammar.  The arguments are:
+     * <ol>
+     * <li>the name of a class with a public no-argument constructor that implements {@link Callable} and returns the
+     * {@link Grammar}</li>
+     * <li>the {@link ParserKind} to create</li>
+     * <li>the fully-qualified name of the class to generate</li>
+     * <li>the source directory to write the class into</li>
+     * </ol>
+     * 
+     * @param args the command-line arguments
+     * @throws Exception if the grammar cannot be created or the source cannot be written
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length != 4) {
+            throw new IllegalArgumentException(
+                    "Usage: " + sourceClass + " <grammar class> <parser kind> <generated class> <source directory>");
+        }
+        
+        final Callable<?> grammarFactory = Class.forName(args[0]).asSubclass(Callable.class).newInstance();
+        final Grammar<?> grammar = (Grammar<?>) grammarFactory.call();
+        final Parser<?> parser = grammar.createParser(ParserKind.valueOf(args[1]));
+        
+        final String qualifiedClassName = args[2];
+        final File sourceFile = new File(args[3], qualifiedClassName.replace('.', File.separatorChar) + ".java");
+        final File parent = sourceFile.getParentFile();
+        if ( !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory: " + parent);
+        }
+        try (final Writer writer = new OutputStreamWriter(new FileOutputStream(sourceFile), StandardCharsets.US_ASCII)) {
+            new ParserSourceGenerator().generate(parser, qualifiedClassName, writer);
+        }
+    }
+    
+}
@@ -1,10 +1,6 @@
 package org.silnith.grammar;
 
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -20,10 +16,6 @@ class ParserState<T extends TerminalSymbol> {
     
     private final int hashCode;
 
-    private final Map<Symbol, Action<T>> parsingTable;
-
-    private final Map<Symbol, Set<Action<T>>> parsingTable2;
-
     public ParserState(final Set<LookaheadItem<T>> items) {
         super();
         if (items == null) {
@@ -31,67 +23,12 @@ class ParserState<T extends TerminalSymbol> {
         }
         this.itemSet = Collections.unmodifiableSet(items);
         this.hashCode = Objects.hash(this.itemSet);
-        /*
-         * The parsing table is not part of a state's "identity" and so is not included in the
-         * hash code calculation or the equals comparison.
-         */
-        this.parsingTable = new HashMap<>();
-        this.parsingTable2 = new HashMap<>();
     }
     
     public Set<LookaheadItem<T>> getItems() {
         return itemSet;
     }
     
-    private int conflictCount = 0;
-    
-    public void initializeParseTable(final Collection<T> terminals, final Collection<NonTerminalSymbol> nonTerminals) {
-        for (final T terminal : terminals) {
-            parsingTable2.put(terminal, new HashSet<Action<T>>());
-        }
-        for (final NonTerminalSymbol nonTerminalSymbol : nonTerminals) {
-            parsingTable2.put(nonTerminalSymbol, new HashSet<Action<T>>());
-        }
-    }
-    
-    /**
-     * Adds an action to the parse table.
-     * 
-     * @param parserState the current parser state
-     * @param symbol the next symbol to be consumed
-     * @param action the parser action to take
-     */
-    public void putAction(final Symbol symbol, final Action<T> action) {
-        parsingTable2.get(symbol).add(action);
-        final Action<T> previousAction = parsingTable.put(symbol, action);
-        if (previousAction != null) {
-            conflictCount++;
-//            System.out.println("Action conflict #" + conflictCount);
-//            printLong();
-//            System.out.println(symbol);
-//            System.out.println(previousAction);
-//            System.out.println(action);
-            
-            throw new IllegalStateException("Conflict between actions " + action + " and " + previousAction);
-        }
-    }
-    
-    public Set<Action<T>> getActions(final Symbol symbol) {
-        return parsingTable2.get(symbol);
-    }
-    
-    public Action<T> getAction(final Symbol symbol) {
-        final Action<T> action = parsingTable.get(symbol);
-        if (action == null) {
-//            printLong();
-//            System.out.print("Next symbol: ");
-//            System.out.println(symbol);
-            throw new IllegalStateException(
-                    "No parse action for symbol: " + symbol + " and state: " + this);
-        }
-        return action;
-    }
-    
     @Override
     public int hashCode() {
         return hashCode;
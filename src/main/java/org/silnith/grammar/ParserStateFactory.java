@@ -2,10 +2,21 @@ package org.silnith.grammar;
 
 import java.util.Set;
 
-class ParserStateFactory<T extends TerminalSymbol> extends WeakCanonicalFactory<ParserState<T>> {
+class ParserStateFactory<T extends TerminalSymbol> {
+    
+    private final CanonicalFactory<ParserState<T>> canonicalFactory;
+    
+    public ParserStateFactory(final CanonicalFactory<ParserState<T>> canonicalFactory) {
+        super();
+        this.canonicalFactory = canonicalFactory;
+    }
     
     public ParserState<T> createInstance(final Set<LookaheadItem<T>> items) {
-        return valueOf(new ParserState<>(items));
+        return canonicalFactory.valueOf(new ParserState<>(items));
+    }
+    
+    public CanonicalFactory<ParserState<T>> getCanonicalFactory() {
+        return canonicalFactory;
     }
     
 }
@@ -7,6 +7,11 @@ import java.util.List;
  * A handler responsible for providing the object that will go on the data stack whenever this production is reduced.
  * Clients of the API implement this interface in order to build up whatever data structure they want to generate from
  * parsing the language.
+ * 
+ * <p>A {@link Parser} may be used by many threads at once, and calls the same handler instances from all of them.
+ * Handlers that keep no state of their own are always safe.
+ * 
+ * @see RightHandSideHandler
  */
 public interface ProductionHandler {
 	
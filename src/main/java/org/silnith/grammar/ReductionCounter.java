@@ -0,0 +1,49 @@
+package org.silnith.grammar;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the reductions of each production during a single parse, so that the shared {@link ParseMetrics} are only
+ * updated once the parse is finished.  Only the productions that were actually reduced are visited when the counts
+ * are drained, so the cost of a short parse does not depend on the size of the grammar.
+ */
+class ReductionCounter {
+    
+    private final long[] counts;
+    
+    private final int[] reducedProductions;
+    
+    private int reducedProductionCount;
+    
+    ReductionCounter(final int productionCount) {
+        super();
+        this.counts = new long[productionCount];
+        this.reducedProductions = new int[productionCount];
+        this.reducedProductionCount = 0;
+    }
+    
+    int getProductionCount() {
+        return counts.length;
+    }
+    
+    void count(final int production) {
+        if (counts[production]++ == 0) {
+            reducedProductions[reducedProductionCount++] = production;
+        }
+    }
+    
+    /**
+     * Adds the counts to the totals and then sets them back to zero.
+     * 
+     * @param totals the totals, indexed by production ordinal
+     */
+    void drainTo(final AtomicLongArray totals) {
+        for (int i = 0; i < reducedProductionCount; i++) {
+            final int production = reducedProductions[i];
+            totals.addAndGet(production, counts[production]);
+            counts[production] = 0;
+        }
+        reducedProductionCount = 0;
+    }
+    
+}
@@ -0,0 +1,26 @@
+package org.silnith.grammar;
+
+/**
+ * A listener that is told about every production reduction, for parsing without building an abstract syntax tree.
+ * This is useful for validating input, or for extracting a few pieces of it, where keeping a data object for every
+ * symbol would be wasted work.
+ * 
+ * <p>Reductions are reported bottom-up, in the same order that the {@link ProductionHandler}s would be called.
+ * Tokens are identified by their position in the input, counting from zero.
+ * 
+ * @see Parser#parse(Lexer, ReductionListener)
+ */
+public interface ReductionListener {
+    
+    /**
+     * Called when a production is reduced.  The span of tokens covered by the production is half-open, so an empty
+     * production has {@code start == end}, both equal to the position of the next token.
+     * 
+     * @param production the production ordinal, which is the order in which it was added to the {@link Grammar},
+     *        counting from zero
+     * @param start the position of the first token covered by the production
+     * @param end the position after the last token covered by the production
+     */
+    void reduced(int production, long start, long end);
+    
+}
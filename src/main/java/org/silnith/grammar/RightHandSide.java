@@ -0,0 +1,32 @@
+package org.silnith.grammar;
+
+/**
+ * A read-only window onto the data objects for the symbols of a production that is being reduced.  The window looks
+ * directly at the parser's data stack, so no collection is allocated for the reduction.
+ * 
+ * <p>A right-hand side is only valid for the duration of the call to
+ * {@link RightHandSideHandler#handleReduction(RightHandSide)} that received it.  The parser reuses the same instance for
+ * the next reduction, so handlers must copy out any elements they want to keep rather than keeping the view itself.
+ * 
+ * @see RightHandSideHandler
+ */
+public interface RightHandSide {
+    
+    /**
+     * Returns the number of symbols in the production.
+     * 
+     * @return the number of data objects
+     */
+    int size();
+    
+    /**
+     * Returns the data object for one symbol in the production.  The data objects are in the same order as the
+     * symbols in the production.
+     * 
+     * @param index the index of the symbol, starting at zero
+     * @return the data object for that symbol
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #size()}
+     */
+    Object get(int index);
+    
+}
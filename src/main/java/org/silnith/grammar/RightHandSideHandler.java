@@ -0,0 +1,25 @@
+package org.silnith.grammar;
+
+/**
+ * A {@link ProductionHandler} that receives its right-hand side as a {@link RightHandSide} view over the parser's data
+ * stack instead of as a freshly-allocated {@link java.util.List}.  The {@link Parser} always prefers
+ * {@link #handleReduction(RightHandSide)} for handlers that implement this interface, which avoids allocating a
+ * collection for every reduction.
+ * 
+ * <p>Implementations must not keep a reference to the view after the call returns.
+ * 
+ * @see AbstractRightHandSideHandler
+ */
+public interface RightHandSideHandler extends ProductionHandler {
+    
+    /**
+     * Returns the data object created by this production.  The input elements are the data objects returned by other
+     * production handlers, and the terminal symbols of the grammar.
+     * 
+     * @param rightHandSide a view of the data objects for the symbols in the production, valid only until this method
+     *        returns
+     * @return the data object for this production
+     */
+    Object handleReduction(RightHandSide rightHandSide);
+    
+}
@@ -0,0 +1,271 @@
+package org.silnith.grammar;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of terminal symbols backed by a {@code long[]} bit set over a {@link TerminalIndex}.  Sets that share the same
+ * index are combined and compared a word at a time, which is what makes the first, follow, and look-ahead set
+ * computations in {@link Grammar} fast for terminal types that are not {@code enum}s.
+ * 
+ * @param <T> the concrete type of terminal symbols
+ * @see TerminalBitSetFactory
+ */
+final class TerminalBitSet<T extends TerminalSymbol> extends AbstractSet<T> {
+    
+    private final TerminalIndex<T> terminalIndex;
+    
+    private final long[] words;
+    
+    private final boolean modifiable;
+    
+    private int modificationCount;
+    
+    TerminalBitSet(final TerminalIndex<T> terminalIndex) {
+        this(terminalIndex, new long[(terminalIndex.size() + Long.SIZE - 1) / Long.SIZE], true);
+    }
+    
+    private TerminalBitSet(final TerminalIndex<T> terminalIndex, final long[] words, final boolean modifiable) {
+        super();
+        this.terminalIndex = terminalIndex;
+        this.words = words;
+        this.modifiable = modifiable;
+        this.modificationCount = 0;
+    }
+    
+    TerminalIndex<T> getTerminalIndex() {
+        return terminalIndex;
+    }
+    
+    /**
+     * Returns a copy of this set.
+     * 
+     * @return a new modifiable set with the same elements
+     */
+    TerminalBitSet<T> copy() {
+        return new TerminalBitSet<>(terminalIndex, words.clone(), true);
+    }
+    
+    /**
+     * Returns an unmodifiable view of this set.  Unlike {@link java.util.Collections#unmodifiableSet(java.util.Set)},
+     * the view is itself a {@link TerminalBitSet}, so it keeps the word-at-a-time fast paths.
+     * 
+     * @return an unmodifiable view of this set
+     */
+    TerminalBitSet<T> unmodifiableView() {
+        if ( !modifiable) {
+            return this;
+        }
+        return new TerminalBitSet<>(terminalIndex, words, false);
+    }
+    
+    private void checkModifiable() {
+        if ( !modifiable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    private boolean isCompatible(final Object o) {
+        return o instanceof TerminalBitSet && ((TerminalBitSet<?>) o).terminalIndex == terminalIndex;
+    }
+    
+    @Override
+    public int size() {
+        int size = 0;
+        for (final long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        for (final long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public boolean contains(final Object o) {
+        final int ordinal = terminalIndex.indexOf(o);
+        if (ordinal < 0) {
+            return false;
+        }
+        return (words[ordinal / Long.SIZE] & 1L << ordinal) != 0;
+    }
+    
+    @Override
+    public boolean add(final T e) {
+        checkModifiable();
+        final int ordinal = terminalIndex.indexOf(e);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Terminal is not in the lexicon: " + e);
+        }
+        final int wordIndex = ordinal / Long.SIZE;
+        final long oldWord = words[wordIndex];
+        final long newWord = oldWord | 1L << ordinal;
+        if (newWord == oldWord) {
+            return false;
+        }
+        words[wordIndex] = newWord;
+        modificationCount++;
+        return true;
+    }
+    
+    @Override
+    public boolean remove(final Object o) {
+        checkModifiable();
+        final int ordinal = terminalIndex.indexOf(o);
+        if (ordinal < 0) {
+            return false;
+        }
+        final int wordIndex = ordinal / Long.SIZE;
+        final long oldWord = words[wordIndex];
+        final long newWord = oldWord & ~(1L << ordinal);
+        if (newWord == oldWord) {
+            return false;
+        }
+        words[wordIndex] = newWord;
+        modificationCount++;
+        return true;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>If the other collection is a {@link TerminalBitSet} over the same index, this is a word-at-a-time union.
+     */
+    @Override
+    public boolean addAll(final Collection<? extends T> c) {
+        checkModifiable();
+        if (isCompatible(c)) {
+            final long[] otherWords = ((TerminalBitSet<?>) c).words;
+            long changed = 0;
+            for (int i = 0; i < words.length; i++) {
+                final long oldWord = words[i];
+                final long newWord = oldWord | otherWords[i];
+                changed |= oldWord ^ newWord;
+                words[i] = newWord;
+            }
+            if (changed == 0) {
+                return false;
+            }
+            modificationCount++;
+            return true;
+        } else {
+            return super.addAll(c);
+        }
+    }
+    
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        if (isCompatible(c)) {
+            final long[] otherWords = ((TerminalBitSet<?>) c).words;
+            for (int i = 0; i < words.length; i++) {
+                if ((otherWords[i] & ~words[i]) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return super.containsAll(c);
+        }
+    }
+    
+    @Override
+    public void clear() {
+        checkModifiable();
+        Arrays.fill(words, 0);
+        modificationCount++;
+    }
+    
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            
+            private int next = nextSetBit(0);
+            
+            private int last = -1;
+            
+            private int expectedModificationCount = modificationCount;
+            
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+            
+            @Override
+            public T next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                if (modificationCount != expectedModificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+                last = next;
+                next = nextSetBit(next + 1);
+                return terminalIndex.get(last);
+            }
+            
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                TerminalBitSet.this.remove(terminalIndex.get(last));
+                last = -1;
+                expectedModificationCount = modificationCount;
+            }
+            
+        };
+    }
+    
+    private int nextSetBit(final int fromIndex) {
+        int wordIndex = fromIndex / Long.SIZE;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & -1L << fromIndex;
+        while (true) {
+            if (word != 0) {
+                return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+            wordIndex++;
+            if (wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (isCompatible(o)) {
+            return Arrays.equals(words, ((TerminalBitSet<?>) o).words);
+        }
+        return super.equals(o);
+    }
+    
+    @Override
+    public int hashCode() {
+        /*
+         * This must match the hash code of any other set with the same elements.
+         */
+        int hashCode = 0;
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            hashCode += terminalIndex.get(i).hashCode();
+        }
+        return hashCode;
+    }
+    
+}
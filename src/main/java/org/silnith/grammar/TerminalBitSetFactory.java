@@ -0,0 +1,50 @@
+package org.silnith.grammar;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A set factory that returns {@link TerminalBitSet} instances over a fixed lexicon.  The lexicon is numbered once when
+ * the factory is created, so the factory can only be created after every terminal symbol is known.
+ * {@link Grammar} does this when it computes the first and follow sets, so that grammars that do not use an
+ * {@link EnumSetFactory} still get bit set performance.
+ * 
+ * @param <T> the concrete type of terminal symbols
+ */
+class TerminalBitSetFactory<T extends TerminalSymbol> implements SetFactory<T> {
+    
+    private final TerminalIndex<T> terminalIndex;
+    
+    /**
+     * Creates a new factory for sets over the given lexicon.
+     * 
+     * @param lexicon all the terminal symbols that may be added to the sets
+     */
+    public TerminalBitSetFactory(final Collection<T> lexicon) {
+        super();
+        this.terminalIndex = new TerminalIndex<>(lexicon);
+    }
+    
+    TerminalIndex<T> getTerminalIndex() {
+        return terminalIndex;
+    }
+    
+    @Override
+    public Set<T> getNewSet() {
+        return new TerminalBitSet<>(terminalIndex);
+    }
+    
+    @Override
+    public Set<T> getNewSet(final Collection<T> c) {
+        if (c instanceof TerminalBitSet) {
+            final TerminalBitSet<T> terminalBitSet = (TerminalBitSet<T>) c;
+            if (terminalBitSet.getTerminalIndex() == terminalIndex) {
+                return terminalBitSet.copy();
+            }
+        }
+        final Set<T> set = getNewSet();
+        set.addAll(c);
+        return set;
+    }
+    
+}
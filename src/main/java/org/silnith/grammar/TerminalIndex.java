@@ -0,0 +1,120 @@
+package org.silnith.grammar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A dense numbering of a fixed set of terminal symbols.  Each terminal is assigned an ordinal from zero up to one less
+ * than the number of terminals.
+ * 
+ * <p>If every terminal is a constant of the same {@code enum}, looking up an ordinal is an array access using the
+ * constant's {@link Enum#ordinal()}.  Otherwise it is a single hash lookup.
+ * 
+ * @param <T> the concrete type of terminal symbols
+ */
+final class TerminalIndex<T extends TerminalSymbol> {
+    
+    private final List<T> terminals;
+    
+    private final Map<T, Integer> index;
+    
+    private final Class<?> enumType;
+    
+    private final int[] enumIndex;
+    
+    /**
+     * Numbers the terminals in iteration order.  Duplicates are ignored.
+     * 
+     * @param terminals the terminals to number
+     */
+    TerminalIndex(final Collection<? extends T> terminals) {
+        super();
+        final List<T> list = new ArrayList<>(terminals.size());
+        this.index = new HashMap<>(terminals.size() * 2);
+        for (final T terminal : terminals) {
+            if ( !index.containsKey(terminal)) {
+                index.put(terminal, list.size());
+                list.add(terminal);
+            }
+        }
+        this.terminals = Collections.unmodifiableList(list);
+        
+        this.enumType = getCommonEnumType(list);
+        if (enumType == null) {
+            this.enumIndex = null;
+        } else {
+            this.enumIndex = new int[enumType.getEnumConstants().length];
+            Arrays.fill(enumIndex, -1);
+            for (int i = 0; i < list.size(); i++) {
+                enumIndex[((Enum<?>) list.get(i)).ordinal()] = i;
+            }
+        }
+    }
+    
+    private static Class<?> getCommonEnumType(final Collection<? extends TerminalSymbol> terminals) {
+        Class<?> enumType = null;
+        for (final TerminalSymbol terminal : terminals) {
+            if ( !(terminal instanceof Enum)) {
+                return null;
+            }
+            final Class<?> declaringClass = ((Enum<?>) terminal).getDeclaringClass();
+            if (enumType == null) {
+                enumType = declaringClass;
+            } else if (enumType != declaringClass) {
+                return null;
+            }
+        }
+        return enumType;
+    }
+    
+    /**
+     * Returns the number of terminals.
+     * 
+     * @return the number of terminals
+     */
+    int size() {
+        return terminals.size();
+    }
+    
+    /**
+     * Returns the terminal with the given ordinal.
+     * 
+     * @param ordinal the terminal ordinal
+     * @return the terminal
+     */
+    T get(final int ordinal) {
+        return terminals.get(ordinal);
+    }
+    
+    /**
+     * Returns the terminals in ordinal order.
+     * 
+     * @return an unmodifiable list of the terminals
+     */
+    List<T> getTerminals() {
+        return terminals;
+    }
+    
+    /**
+     * Returns the ordinal for a terminal.
+     * 
+     * @param terminal the terminal
+     * @return the ordinal, or {@code -1} if the terminal is not in the index
+     */
+    int indexOf(final Object terminal) {
+        if (enumIndex != null && terminal instanceof Enum && ((Enum<?>) terminal).getDeclaringClass() == enumType) {
+            return enumIndex[((Enum<?>) terminal).ordinal()];
+        }
+        final Integer ordinal = index.get(terminal);
+        if (ordinal == null) {
+            return -1;
+        }
+        return ordinal;
+    }
+    
+}
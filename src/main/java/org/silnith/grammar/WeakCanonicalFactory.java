@@ -3,6 +3,8 @@ package org.silnith.grammar;
 import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A filtering object that takes instances of a type that implements {@link Object#equals(Object)}
@@ -30,33 +32,56 @@ import java.util.WeakHashMap;
  * that only a small subset of those values are used concurrently.  For example, a text parser could use this to
  * de-duplicate common substrings while still allowing those strings to be reclaimed when the parser is garbage collected.
  * 
+ * <p>All calls are serialized on a single lock.  Where many threads canonicalize values at once, a
+ * {@link ConcurrentCanonicalFactory} scales better.
+ * 
  * @param <T> the type for which to provide canonical instances.  The type must implement {@link Object#hashCode()} to be <dfn>consistent with equals</dfn>
  * @author <a href="mailto:silnith@gmail.com">Kent Rosenkoetter</a>
  */
-public class WeakCanonicalFactory<T> {
+public class WeakCanonicalFactory<T> implements CanonicalFactory<T> {
     
     private final Map<T, WeakReference<T>> canonicalInstance;
-
+    
+    private final Lock lock;
+    
     private long callCount;
-
+    
+    private long contentionCount;
+    
     /**
      * Creates a new canonical factory.
      */
     public WeakCanonicalFactory() {
         super();
         this.canonicalInstance = new WeakHashMap<T, WeakReference<T>>();
+        this.lock = new ReentrantLock();
         this.callCount = 0;
+        this.contentionCount = 0;
     }
     
     /**
-     * Returns the canonical instance for a value.
-     * 
-     * @param t the value for which to get a canonical instance
-     * @return the canonical instance of that value
+     * Acquires the lock, counting the acquisition as contended if another thread holds it.
      */
-    public synchronized T valueOf(final T t) {
+    private void lock() {
+        if ( !lock.tryLock()) {
+            lock.lock();
+            contentionCount++;
+        }
+    }
+    
+    @Override
+    public T valueOf(final T t) {
+        lock();
+        try {
+            return lockedValueOf(t);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private T lockedValueOf(final T t) {
         callCount++;
-
+        
         /*
          * As long as the strong reference t exists, this weak reference will not vanish.
          */
@@ -70,7 +95,7 @@ public class WeakCanonicalFactory<T> {
             final WeakReference<T> displaced = canonicalInstance.put(t, newWeakReference);
             
             /*
-             * Because this method is synchronized, it is not possible for another thread to preemptively insert a new
+             * Because this method holds the lock, it is not possible for another thread to preemptively insert a new
              * canonical instance.
              */
             assert displaced == null;
@@ -93,7 +118,7 @@ public class WeakCanonicalFactory<T> {
                  * it could return null.
                  */
                 assert displaced == existingWeakReference || displaced == null;
-
+                
                 return t;
             } else {
                 /*
@@ -104,23 +129,49 @@ public class WeakCanonicalFactory<T> {
         }
     }
     
-    /**
-     * Returns the number of canonical instances currently stored.
-     * 
-     * @return the number of distinct values of the type that currently exist
-     */
-    public synchronized long getInstanceCount() {
-        return canonicalInstance.size();
+    @Override
+    public long getInstanceCount() {
+        lock();
+        try {
+            return canonicalInstance.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public long getCallCount() {
+        lock();
+        try {
+            return callCount;
+        } finally {
+            lock.unlock();
+        }
     }
     
     /**
-     * Returns the number of times a value was converted to a canonical instance.  This includes the first time a value
-     * is seen, in which case that value is stored and returned for subsequent equal values.
+     * {@inheritDoc}
      * 
-     * @return the number of times a value has been canonicalized
+     * <p>This is the number of times a thread found the lock held by another thread and had to wait for it.
      */
-    public synchronized long getCallCount() {
-        return callCount;
+    @Override
+    public long getContentionCount() {
+        lock();
+        try {
+            return contentionCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        lock();
+        try {
+            canonicalInstance.clear();
+        } finally {
+            lock.unlock();
+        }
     }
     
 }
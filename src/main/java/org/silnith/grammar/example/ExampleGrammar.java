@@ -2,6 +2,7 @@ package org.silnith.grammar.example;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.silnith.grammar.EnumSetFactory;
 import org.silnith.grammar.Grammar;
@@ -10,7 +11,11 @@ import org.silnith.grammar.Parser;
 import org.silnith.grammar.ProductionHandler;
 
 
-public class ExampleGrammar {
+/**
+ * An example grammar.  This can be given to {@link org.silnith.grammar.ParserSourceGenerator} to generate the parser
+ * ahead of time.
+ */
+public class ExampleGrammar implements Callable<Grammar<Terminals>> {
     
     public static final class StringProductionHandler implements ProductionHandler {
 
@@ -30,12 +35,13 @@ public class ExampleGrammar {
 
     }
 
-	/**
-     * An example program demonstrating a parser generated for a simple grammar.
+    /**
+     * Creates the grammar, without computing it.
      * 
-     * @param args the command-line arguments
+     * @return the example grammar
      */
-    public static void main(final String[] args) {
+    @Override
+    public Grammar<Terminals> call() {
         final Grammar<Terminals> grammar = new Grammar<>(new EnumSetFactory<>(Terminals.class));
         
         final NonTerminalSymbol nonTerminal = grammar.getNonTerminalSymbol("S");
@@ -44,6 +50,17 @@ public class ExampleGrammar {
         grammar.setStartSymbol(nonTerminal);
         grammar.setEndOfFileSymbol(Terminals.EOF);
         
+        return grammar;
+    }
+
+	/**
+     * An example program demonstrating a parser generated for a simple grammar.
+     * 
+     * @param args the command-line arguments
+     */
+    public static void main(final String[] args) {
+        final Grammar<Terminals> grammar = new ExampleGrammar().call();
+        
         final Parser<Terminals> parser = grammar.createParser();
         
         final List<Terminals> input = Arrays.asList(Terminals.A, Terminals.B, Terminals.C, Terminals.EOF);
@@ -0,0 +1,135 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ArenaCanonicalFactoryTest {
+    
+    private final ArenaCanonicalFactory<BigInteger> factory = new ArenaCanonicalFactory<>();
+    
+    @Test
+    public void testValueOf() {
+        final int max = 1000000;
+        for (int i = 0; i < max; i++) {
+            factory.valueOf(BigInteger.valueOf(i / 1000));
+        }
+        
+        assertEquals(max, factory.getCallCount());
+        assertEquals(max / 1000, factory.getInstanceCount());
+    }
+    
+    @Test
+    public void testDenseIds() {
+        final BigInteger a = factory.valueOf(new BigInteger("12345678901234567890"));
+        final BigInteger b = factory.valueOf(new BigInteger("98765432109876543210"));
+        
+        assertEquals(0, factory.getId(new BigInteger("12345678901234567890")));
+        assertEquals(1, factory.getId(b));
+        assertEquals(2, factory.getId(BigInteger.TEN));
+        assertSame(a, factory.getInstance(0));
+        assertSame(b, factory.getInstance(1));
+        assertSame(BigInteger.TEN, factory.getInstance(2));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetInstanceUnknown() {
+        factory.valueOf(BigInteger.ONE);
+        
+        factory.getInstance(1);
+    }
+    
+    @Test
+    public void testClear() {
+        final BigInteger a = factory.valueOf(new BigInteger("12345678901234567890"));
+        
+        factory.clear();
+        
+        assertEquals(0, factory.getInstanceCount());
+        final BigInteger b = factory.valueOf(new BigInteger("12345678901234567890"));
+        assertNotSame(a, b);
+        assertEquals(0, factory.getId(b));
+    }
+    
+    @Test
+    public void testGrammar() {
+        final Grammar<Terminals> grammar = TestGrammars.addExpressionProductions(
+                new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class), Canonicalization.ARENA));
+        
+        final Parser<Terminals> parser = grammar.createParser(ParserKind.LALR1);
+        
+        assertEquals("E ::= [E ::= [T ::= [B]]] [A] [T ::= [B]]",
+                parser.parse(new StaticLexer<>(Terminals.B, Terminals.A, Terminals.B)));
+        assertEquals(parser.getParseTable().getStateCount(),
+                grammar.createParser(ParserKind.LALR1).getParseTable().getStateCount());
+    }
+    
+    @Test
+    public void testGrammarDropsInstances() {
+        final Grammar<Terminals> grammar = TestGrammars.addExpressionProductions(
+                new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class), Canonicalization.ARENA));
+        
+        for (final ParserKind parserKind : ParserKind.values()) {
+            grammar.createParser(parserKind);
+            
+            assertEquals(0, grammar.getCanonicalInstanceCount());
+        }
+    }
+    
+    /**
+     * Creates the ambiguous grammar {@code E ::= E a E | b}, which has a conflict for every kind of parser.
+     */
+    private Grammar<Terminals> createAmbiguousGrammar() {
+        final Grammar<Terminals> grammar =
+                new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class), Canonicalization.ARENA);
+        final NonTerminalSymbol nonTerminalE = grammar.getNonTerminalSymbol("E");
+        grammar.addProduction(nonTerminalE, new TestProductionHandler("E"), nonTerminalE, Terminals.A, nonTerminalE);
+        grammar.addProduction(nonTerminalE, new TestProductionHandler("E"), Terminals.B);
+        grammar.setStartSymbol(nonTerminalE);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        return grammar;
+    }
+    
+    @Test
+    public void testConflictDropsInstances() {
+        final Grammar<Terminals> grammar = createAmbiguousGrammar();
+        
+        for (final ParserKind parserKind : ParserKind.values()) {
+            try {
+                grammar.createParser(parserKind);
+                fail();
+            } catch (final IllegalStateException e) {
+                // pass
+            }
+            
+            assertEquals(0, grammar.getCanonicalInstanceCount());
+        }
+    }
+    
+    @Test
+    public void testThreadedConflictDropsInstances() throws InterruptedException, ExecutionException {
+        final Grammar<Terminals> grammar = createAmbiguousGrammar();
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            grammar.threadedCreateParser(executorService);
+            fail();
+        } catch (final IllegalStateException e) {
+            // pass
+        } finally {
+            executorService.shutdown();
+        }
+        
+        assertEquals(0, grammar.getCanonicalInstanceCount());
+    }
+    
+}
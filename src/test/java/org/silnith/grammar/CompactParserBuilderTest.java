@@ -0,0 +1,167 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+import org.silnith.grammar.uri.token.UriTerminalType;
+
+
+public class CompactParserBuilderTest {
+    
+    private <T extends TerminalSymbol> Parser<T> createObjectParser(final Grammar<T> grammar) throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            return grammar.threadedCreateParser(executorService);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    /**
+     * Asserts that two parsing tables are the same apart from the numbering of their states and non-terminals.  Both
+     * are walked from their start states in step, and every shift and goto must lead to a pair of states that is
+     * consistent with the pairs found so far.
+     */
+    private <T extends TerminalSymbol> void assertSameTables(final ParseTable<T> expected, final ParseTable<T> actual,
+            final T[] terminals) {
+        assertEquals(expected.getStateCount(), actual.getStateCount());
+        assertEquals(expected.getProductionCount(), actual.getProductionCount());
+        
+        final Map<Integer, Integer> nonTerminals = new HashMap<>();
+        for (int production = 0; production < expected.getProductionCount(); production++) {
+            assertEquals(expected.getProductionLength(production), actual.getProductionLength(production));
+            nonTerminals.put(expected.getProductionTarget(production), actual.getProductionTarget(production));
+        }
+        
+        final int[] stateMap = new int[expected.getStateCount()];
+        Arrays.fill(stateMap, ParseTable.NO_STATE);
+        final boolean[] mapped = new boolean[actual.getStateCount()];
+        final Deque<Integer> worklist = new ArrayDeque<>();
+        mapState(stateMap, mapped, worklist, expected.getStartState(), actual.getStartState());
+        while ( !worklist.isEmpty()) {
+            final int expectedState = worklist.remove();
+            final int actualState = stateMap[expectedState];
+            
+            for (final T terminal : terminals) {
+                final int expectedAction = expected.getAction(expectedState, expected.getTerminalIndex(terminal));
+                final int actualAction = actual.getAction(actualState, actual.getTerminalIndex(terminal));
+                assertEquals("state " + expectedState + " on " + terminal, ParseTable.getActionType(expectedAction),
+                        ParseTable.getActionType(actualAction));
+                if (ParseTable.getActionType(expectedAction) == ParseTable.SHIFT) {
+                    mapState(stateMap, mapped, worklist, ParseTable.getActionOperand(expectedAction),
+                            ParseTable.getActionOperand(actualAction));
+                } else {
+                    assertEquals("state " + expectedState + " on " + terminal,
+                            ParseTable.getActionOperand(expectedAction), ParseTable.getActionOperand(actualAction));
+                }
+            }
+            
+            for (final Map.Entry<Integer, Integer> entry : nonTerminals.entrySet()) {
+                final int expectedGoto = expected.getGoto(expectedState, entry.getKey());
+                final int actualGoto = actual.getGoto(actualState, entry.getValue());
+                if (expectedGoto == ParseTable.NO_STATE) {
+                    assertEquals(ParseTable.NO_STATE, actualGoto);
+                } else {
+                    assertNotEquals(ParseTable.NO_STATE, actualGoto);
+                    mapState(stateMap, mapped, worklist, expectedGoto, actualGoto);
+                }
+            }
+        }
+        
+        for (int state = 0; state < stateMap.length; state++) {
+            assertNotEquals("unreachable state " + state, ParseTable.NO_STATE, stateMap[state]);
+        }
+    }
+    
+    private void mapState(final int[] stateMap, final boolean[] mapped, final Deque<Integer> worklist,
+            final int expectedState, final int actualState) {
+        if (stateMap[expectedState] == ParseTable.NO_STATE) {
+            assertFalse("state " + actualState + " mapped twice", mapped[actualState]);
+            stateMap[expectedState] = actualState;
+            mapped[actualState] = true;
+            worklist.add(expectedState);
+        } else {
+            assertEquals(stateMap[expectedState], actualState);
+        }
+    }
+    
+    @Test
+    public void testSameTablesAsObjectParser() throws Exception {
+        final Grammar<Terminals> grammar = TestGrammars.createNonLALRGrammar();
+        
+        assertSameTables(createObjectParser(grammar).getParseTable(), grammar.createParser().getParseTable(),
+                Terminals.values());
+    }
+    
+    @Test
+    public void testSameTablesAsObjectParserNullable() throws Exception {
+        final Grammar<Terminals> grammar = TestGrammars.createNullableGrammar();
+        
+        assertSameTables(createObjectParser(grammar).getParseTable(), grammar.createParser().getParseTable(),
+                Terminals.values());
+    }
+    
+    @Test
+    public void testSameTablesAsObjectParserUri() throws Exception {
+        final Grammar<UriTerminalType> grammar = new UriGrammar().call();
+        grammar.setStartSymbol(grammar.getNonTerminalSymbol("authority"));
+        
+        assertSameTables(createObjectParser(grammar).getParseTable(), grammar.createParser().getParseTable(),
+                UriTerminalType.values());
+    }
+    
+    @Test
+    public void testSameStatesAsObjectParser() throws Exception {
+        final Grammar<Terminals> grammar = TestGrammars.createNonLALRGrammar();
+        
+        final Parser<Terminals> parser = grammar.createParser();
+        final Parser<Terminals> objectParser = createObjectParser(grammar);
+        
+        assertEquals(objectParser.getParseTable().getStateCount(), parser.getParseTable().getStateCount());
+        assertEquals("S ::= [B] [E ::= [E]] [D]",
+                parser.parse(new StaticLexer<>(Terminals.B, Terminals.E, Terminals.D)));
+    }
+    
+    @Test
+    public void testNullableProductions() throws Exception {
+        final Grammar<Terminals> grammar = TestGrammars.createNullableGrammar();
+        
+        final Parser<Terminals> parser = grammar.createParser();
+        final Parser<Terminals> objectParser = createObjectParser(grammar);
+        
+        assertEquals(objectParser.getParseTable().getStateCount(), parser.getParseTable().getStateCount());
+        assertEquals("S ::= [E ::= [E] [A]] [F ::= [B] [F]] [C]",
+                parser.parse(new StaticLexer<>(Terminals.A, Terminals.B, Terminals.C)));
+        assertEquals("S ::= [E] [F] [C]", parser.parse(new StaticLexer<>(Terminals.C)));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testConflict() {
+        final Grammar<Terminals> grammar = TestGrammars.createEmptyGrammar();
+        
+        final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
+        final NonTerminalSymbol nonTerminalE = grammar.getNonTerminalSymbol("E");
+        final NonTerminalSymbol nonTerminalF = grammar.getNonTerminalSymbol("F");
+        
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), nonTerminalE);
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), nonTerminalF);
+        grammar.addProduction(nonTerminalE, new TestProductionHandler("E"), Terminals.A);
+        grammar.addProduction(nonTerminalF, new TestProductionHandler("F"), Terminals.A);
+        grammar.setStartSymbol(nonTerminalS);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        grammar.createParser();
+    }
+    
+}
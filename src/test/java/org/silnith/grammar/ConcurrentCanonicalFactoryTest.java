@@ -0,0 +1,80 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+
+public class ConcurrentCanonicalFactoryTest {
+    
+    private final ConcurrentCanonicalFactory<BigInteger> factory = new ConcurrentCanonicalFactory<>();
+    
+    @Test
+    public void testValueOf() {
+        final int max = 1000000;
+        for (int i = 0; i < max; i++) {
+            factory.valueOf(BigInteger.valueOf(i / 1000));
+        }
+        
+        final long instanceCount = factory.getInstanceCount();
+        assertEquals(max, factory.getCallCount());
+        assertTrue(instanceCount <= max / 1000);
+    }
+    
+    @Test
+    public void testCanonical() {
+        final BigInteger a = factory.valueOf(new BigInteger("12345678901234567890"));
+        final BigInteger b = factory.valueOf(new BigInteger("12345678901234567890"));
+        
+        assertSame(a, b);
+    }
+    
+    @Test
+    public void testConcurrentValueOf() throws Exception {
+        final int threads = 8;
+        final int values = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<BigInteger[]>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(new Callable<BigInteger[]>() {
+                    
+                    @Override
+                    public BigInteger[] call() throws Exception {
+                        start.await();
+                        final BigInteger[] canonical = new BigInteger[values];
+                        for (int i = 0; i < values; i++) {
+                            canonical[i] = factory.valueOf(BigInteger.valueOf(i));
+                        }
+                        return canonical;
+                    }
+                    
+                }));
+            }
+            start.countDown();
+            
+            final BigInteger[] expected = futures.get(0).get();
+            for (final Future<BigInteger[]> future : futures) {
+                final BigInteger[] canonical = future.get();
+                for (int i = 0; i < values; i++) {
+                    assertSame(expected[i], canonical[i]);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+}
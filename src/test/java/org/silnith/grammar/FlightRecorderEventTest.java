@@ -0,0 +1,37 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class FlightRecorderEventTest {
+    
+    @Test
+    public void testNotRecording() {
+        assertFalse(FlightRecorderEvent.PARSE.isEnabled());
+        assertFalse(FlightRecorderEvent.isParseEnabled());
+        assertNull(FlightRecorderEvent.PARSE.begin());
+        assertNull(FlightRecorderEvent.GENERATION_PHASE.begin());
+    }
+    
+    @Test
+    public void testCommitNull() {
+        FlightRecorderEvent.PARSE.commit(null, 1L, 1L, true);
+        FlightRecorderEvent.PARSER_STATE.commit(null);
+    }
+    
+    @Test
+    public void testParseNotRecording() {
+        final Grammar<Terminals> grammar = TestGrammars.createExpressionGrammar();
+        
+        final Parser<Terminals> parser = grammar.createParser(ParserKind.MINIMAL_LR1);
+        
+        assertEquals("E ::= [E ::= [T ::= [B]]] [A] [T ::= [B]]",
+                parser.parse(new StaticLexer<>(Terminals.B, Terminals.A, Terminals.B)));
+    }
+    
+}
@@ -0,0 +1,49 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+
+
+/**
+ * Checks the parser tables class generated by the {@code generate-parser} Maven profile.  The profile passes the names
+ * of the grammar and the generated class as system properties, so without the profile these tests are skipped.
+ */
+public class GeneratedParserTablesTest {
+    
+    private Class<?> getTablesClass() throws ClassNotFoundException {
+        final String className = System.getProperty("parser.class");
+        assumeNotNull(className);
+        return Class.forName(className);
+    }
+    
+    @Test
+    public void testCompiledIntoOutputDirectory() throws Exception {
+        final Class<?> tablesClass = getTablesClass();
+        final String outputDirectory = System.getProperty("parser.outputDirectory");
+        assumeNotNull(outputDirectory);
+        
+        final File classFile =
+                new File(outputDirectory, tablesClass.getName().replace('.', File.separatorChar) + ".class");
+        assertEquals(classFile.toURI().toURL(), tablesClass.getResource(tablesClass.getSimpleName() + ".class"));
+    }
+    
+    @Test
+    public void testCreateParser() throws Exception {
+        final Class<?> tablesClass = getTablesClass();
+        final Callable<?> grammarFactory =
+                Class.forName(System.getProperty("parser.grammar")).asSubclass(Callable.class).newInstance();
+        
+        final Method createParser = tablesClass.getMethod("createParser", Grammar.class);
+        final Parser<?> parser = (Parser<?>) createParser.invoke(null, grammarFactory.call());
+        
+        assertNotNull(parser);
+    }
+    
+}
@@ -0,0 +1,99 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class GenerationStatisticsTest {
+    
+    private Grammar<Terminals> grammar;
+    
+    @Before
+    public void setUp() {
+        grammar = TestGrammars.createExpressionGrammar();
+    }
+    
+    private void assertConsistent(final Parser<Terminals> parser, final ParserKind parserKind) {
+        final GenerationStatistics statistics = parser.getGenerationStatistics();
+        
+        assertNotNull(statistics);
+        assertEquals(parserKind, statistics.getParserKind());
+        assertEquals(parser.getParseTable().getStateCount(), statistics.getStateCount());
+        assertTrue(statistics.getEdgeCount() > 0);
+        assertTrue(statistics.getNullablePasses() > 0);
+        assertTrue(statistics.getFirstPasses() > 0);
+        assertTrue(statistics.getFollowPasses() > 0);
+        assertTrue(statistics.getClosureCalls() >= statistics.getStateCount());
+        assertTrue(statistics.getClosureIterations() > 0);
+        assertTrue(statistics.getGotoCalls() > 0);
+        assertTrue(statistics.getDuplicateStates() > 0);
+        assertTrue(statistics.getCanonicalInstances() >= statistics.getStateCount());
+        assertTrue(statistics.getTotalTime() > 0);
+        assertTrue(statistics.getTotalTime() >= statistics.getNullableTime() + statistics.getFirstTime()
+                + statistics.getFollowTime() + statistics.getClosureKernelTime() + statistics.getParserStateTime()
+                + statistics.getParseTableTime());
+    }
+    
+    @Test
+    public void testLR1() {
+        assertConsistent(grammar.createParser(ParserKind.LR1), ParserKind.LR1);
+    }
+    
+    @Test
+    public void testLALR1() {
+        final Parser<Terminals> parser = grammar.createParser(ParserKind.LALR1);
+        
+        assertConsistent(parser, ParserKind.LALR1);
+        assertTrue(parser.getGenerationStatistics().getStateCount() < grammar.createParser(ParserKind.LR1)
+                .getGenerationStatistics().getStateCount());
+    }
+    
+    @Test
+    public void testMinimalLR1() {
+        assertConsistent(grammar.createParser(ParserKind.MINIMAL_LR1), ParserKind.MINIMAL_LR1);
+    }
+    
+    @Test
+    public void testThreaded() throws InterruptedException, ExecutionException {
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            assertConsistent(grammar.threadedCreateParser(executorService), ParserKind.LR1);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void testStatisticsNotShared() {
+        final Parser<Terminals> first = grammar.createParser(ParserKind.LR1);
+        final Parser<Terminals> second = grammar.createParser(ParserKind.LR1);
+        
+        assertEquals(first.getGenerationStatistics().getClosureCalls(),
+                second.getGenerationStatistics().getClosureCalls());
+        assertEquals(first.getGenerationStatistics().getGotoCalls(), second.getGenerationStatistics().getGotoCalls());
+    }
+    
+    @Test
+    public void testLoadedParser() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        grammar.createParser(ParserKind.LR1).save(outputStream);
+        
+        final Parser<Terminals> parser = Parser.load(new ByteArrayInputStream(outputStream.toByteArray()), grammar);
+        
+        assertNull(parser.getGenerationStatistics());
+    }
+    
+}
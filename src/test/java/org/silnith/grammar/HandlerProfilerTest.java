@@ -0,0 +1,106 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class HandlerProfilerTest {
+    
+    private static final int ALLOCATION_SIZE = 1 << 20;
+    
+    private Parser<Terminals> parser;
+    
+    @Before
+    public void setUp() {
+        final ProductionHandler slowHandler = new ProductionHandler() {
+            
+            @Override
+            public Object handleReduction(final List<Object> rightHandSide) {
+                try {
+                    Thread.sleep(5);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new byte[ALLOCATION_SIZE];
+            }
+            
+        };
+        
+        parser = TestGrammars.addExpressionProductions(TestGrammars.createEmptyGrammar(), slowHandler).createParser();
+    }
+    
+    @Test
+    public void testWithoutProfiling() {
+        assertNull(parser.getHandlerProfiler());
+    }
+    
+    @Test
+    public void testReport() {
+        final Parser<Terminals> profilingParser = parser.withHandlerProfiling();
+        
+        profilingParser.parse(new StaticLexer<>(Terminals.B, Terminals.A, Terminals.B));
+        
+        final HandlerProfiler handlerProfiler = profilingParser.getHandlerProfiler();
+        final List<HandlerProfile> report = handlerProfiler.getReport();
+        assertEquals(3, report.size());
+        
+        final HandlerProfile slowest = report.get(0);
+        assertEquals(2, slowest.getProduction());
+        assertTrue(slowest.getProductionName().contains("B"));
+        assertEquals(2, slowest.getCalls());
+        assertTrue(slowest.getTotalTime() >= 10000000);
+        assertEquals(slowest.getTotalTime() / 2.0, slowest.getMeanTime(), 0.0);
+        if (handlerProfiler.isMeasuringAllocation()) {
+            assertTrue(slowest.getAllocatedBytes() >= 2 * ALLOCATION_SIZE);
+        } else {
+            assertEquals(-1, slowest.getAllocatedBytes());
+        }
+        for (int i = 1; i < report.size(); i++) {
+            assertTrue(report.get(i - 1).getTotalTime() >= report.get(i).getTotalTime());
+            assertEquals(1, report.get(i).getCalls());
+        }
+    }
+    
+    @Test
+    public void testSession() {
+        final Parser<Terminals> profilingParser = parser.withHandlerProfiling();
+        
+        final ParseSession<Terminals> session = profilingParser.newSession();
+        session.offer(new StaticLexer.TerminalWrapper<>(Terminals.B));
+        session.finish();
+        
+        assertEquals(2, profilingParser.getHandlerProfiler().getReport().size());
+    }
+    
+    @Test
+    public void testReset() {
+        final Parser<Terminals> profilingParser = parser.withHandlerProfiling();
+        profilingParser.parse(new StaticLexer<>(Terminals.B));
+        
+        profilingParser.getHandlerProfiler().reset();
+        
+        assertTrue(profilingParser.getHandlerProfiler().getReport().isEmpty());
+    }
+    
+    @Test
+    public void testWithMetrics() {
+        final Parser<Terminals> profilingParser = parser.withHandlerProfiling().withMetrics();
+        
+        profilingParser.parse(new StaticLexer<>(Terminals.B));
+        
+        assertNotNull(profilingParser.getMetrics());
+        assertSame(profilingParser.getHandlerProfiler(), profilingParser.withMetrics().getHandlerProfiler());
+        assertEquals(1, profilingParser.getMetrics().getParseCount());
+        assertEquals(2, profilingParser.getHandlerProfiler().getReport().size());
+    }
+    
+}
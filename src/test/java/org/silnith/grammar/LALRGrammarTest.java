@@ -10,11 +10,13 @@ import org.silnith.grammar.example.Terminals;
  */
 public class LALRGrammarTest {
 	
+	private Grammar<Terminals> grammar;
+	
 	private Parser<Terminals> parser;
 	
 	@Before
 	public void setUp() {
-        final Grammar<Terminals> grammar = new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class));
+        grammar = new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class));
         
         final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
         final NonTerminalSymbol nonTerminalE = grammar.getNonTerminalSymbol("E");
@@ -61,5 +63,39 @@ public class LALRGrammarTest {
 		
 		Assert.assertEquals("S ::= [B] [E ::= [E]] [D]", ast4);
 	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testLALRParserConflict() {
+		grammar.createParser(ParserKind.LALR1);
+	}
+	
+	@Test
+	public void testMinimalLR1Parser() {
+		final Parser<Terminals> minimalParser = grammar.createParser(ParserKind.MINIMAL_LR1);
+		
+		Assert.assertEquals("S ::= [A] [E ::= [E]] [C]", minimalParser.parse(new StaticLexer<>(Terminals.A, Terminals.E, Terminals.C)));
+		Assert.assertEquals("S ::= [A] [F ::= [E]] [D]", minimalParser.parse(new StaticLexer<>(Terminals.A, Terminals.E, Terminals.D)));
+		Assert.assertEquals("S ::= [B] [F ::= [E]] [C]", minimalParser.parse(new StaticLexer<>(Terminals.B, Terminals.E, Terminals.C)));
+		Assert.assertEquals("S ::= [B] [E ::= [E]] [D]", minimalParser.parse(new StaticLexer<>(Terminals.B, Terminals.E, Terminals.D)));
+		
+		/*
+		 * The only states with a common core are the two that reach the E and F reductions, and merging those
+		 * would create the LALR conflict.
+		 */
+		Assert.assertEquals(grammar.createParser(ParserKind.LR1).getParseTable().getStateCount(),
+				minimalParser.getParseTable().getStateCount());
+	}
+	
+	@Test
+	public void testMinimalLR1ParserMergesStates() {
+		final Grammar<Terminals> expressionGrammar = TestGrammars.createExpressionGrammar();
+		
+		final int lr1StateCount = expressionGrammar.createParser(ParserKind.LR1).getParseTable().getStateCount();
+		final int lalr1StateCount = expressionGrammar.createParser(ParserKind.LALR1).getParseTable().getStateCount();
+		final int minimalStateCount = expressionGrammar.createParser(ParserKind.MINIMAL_LR1).getParseTable().getStateCount();
+		
+		Assert.assertTrue(minimalStateCount < lr1StateCount);
+		Assert.assertEquals(lalr1StateCount, minimalStateCount);
+	}
 
 }
\ No newline at end of file
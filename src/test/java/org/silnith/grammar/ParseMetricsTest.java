@@ -0,0 +1,142 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ParseMetricsTest {
+    
+    private Parser<Terminals> parser;
+    
+    @Before
+    public void setUp() {
+        final Grammar<Terminals> grammar = TestGrammars.createExpressionGrammar();
+        
+        parser = grammar.createParser();
+    }
+    
+    @Test
+    public void testWithoutMetrics() {
+        assertNull(parser.getMetrics());
+    }
+    
+    @Test
+    public void testWithMetrics() {
+        final Parser<Terminals> measuredParser = parser.withMetrics();
+        
+        assertNotSame(parser, measuredParser);
+        assertNull(parser.getMetrics());
+        assertSame(parser.getGenerationStatistics(), measuredParser.getGenerationStatistics());
+        assertNotSame(measuredParser.getMetrics(), parser.withMetrics().getMetrics());
+    }
+    
+    @Test
+    public void testParse() {
+        final Parser<Terminals> measuredParser = parser.withMetrics();
+        
+        assertEquals("E ::= [E ::= [T ::= [B]]] [A] [T ::= [B]]",
+                measuredParser.parse(new StaticLexer<>(Terminals.B, Terminals.A, Terminals.B)));
+        
+        final ParseMetrics metrics = measuredParser.getMetrics();
+        assertEquals(1, metrics.getParseCount());
+        assertEquals(0, metrics.getFailedParseCount());
+        assertEquals(3, metrics.getTokensShifted());
+        assertEquals(4, metrics.getReductions());
+        assertArrayEquals(new long[] {1, 1, 2, 0}, Arrays.copyOf(metrics.getReductionCounts(), 4));
+        assertEquals(metrics.getReductionCounts().length, metrics.getProductionNames().length);
+        assertTrue(metrics.getProductionNames()[2].contains("B"));
+        assertEquals(4, metrics.getMaxStackDepth());
+        assertEquals(1, metrics.getStackDepthHistogram()[2]);
+        assertTrue(metrics.getTotalParseTime() > 0);
+        assertEquals(metrics.getTotalParseTime(), metrics.getMaxParseTime());
+        assertTrue(metrics.getTokensPerSecond() > 0);
+    }
+    
+    @Test
+    public void testParseFailure() {
+        final Parser<Terminals> measuredParser = parser.withMetrics();
+        
+        try {
+            measuredParser.parse(new StaticLexer<>(Terminals.B, Terminals.A, Terminals.A));
+            fail();
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        
+        final ParseMetrics metrics = measuredParser.getMetrics();
+        assertEquals(1, metrics.getParseCount());
+        assertEquals(1, metrics.getFailedParseCount());
+        assertEquals(2, metrics.getTokensShifted());
+    }
+    
+    @Test
+    public void testParseAll() {
+        final Parser<Terminals> measuredParser = parser.withMetrics();
+        final List<StaticLexer<Terminals>> inputs = Arrays.asList(new StaticLexer<>(Terminals.B),
+                new StaticLexer<>(Terminals.C, Terminals.B, Terminals.A, Terminals.B, Terminals.D),
+                new StaticLexer<>(Terminals.B));
+        
+        measuredParser.parseAll(inputs);
+        measuredParser.parseAll(inputs);
+        
+        final ParseMetrics metrics = measuredParser.getMetrics();
+        assertEquals(6, metrics.getParseCount());
+        assertEquals(14, metrics.getTokensShifted());
+        assertArrayEquals(new long[] {2, 8, 8, 2}, Arrays.copyOf(metrics.getReductionCounts(), 4));
+        long histogramTotal = 0;
+        for (final long count : metrics.getStackDepthHistogram()) {
+            histogramTotal += count;
+        }
+        assertEquals(6, histogramTotal);
+    }
+    
+    @Test
+    public void testReset() {
+        final Parser<Terminals> measuredParser = parser.withMetrics();
+        measuredParser.parse(new StaticLexer<>(Terminals.B));
+        
+        final ParseMetrics metrics = measuredParser.getMetrics();
+        metrics.reset();
+        
+        assertEquals(0, metrics.getParseCount());
+        assertEquals(0, metrics.getTokensShifted());
+        assertEquals(0, metrics.getReductions());
+        assertEquals(0, metrics.getMaxStackDepth());
+        assertEquals(0, metrics.getTotalParseTime());
+        assertArrayEquals(new long[metrics.getReductionCounts().length], metrics.getReductionCounts());
+    }
+    
+    @Test
+    public void testMXBean() throws JMException {
+        final Parser<Terminals> measuredParser = parser.withMetrics();
+        measuredParser.parse(new StaticLexer<>(Terminals.B));
+        
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("org.silnith.grammar:type=ParseMetrics,name=test");
+        server.registerMBean(measuredParser.getMetrics(), name);
+        try {
+            assertEquals(1L, server.getAttribute(name, "ParseCount"));
+            assertEquals(1L, server.getAttribute(name, "TokensShifted"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+    
+}
@@ -0,0 +1,108 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ParseSessionTest {
+    
+    private Parser<Terminals> parser;
+    
+    @Before
+    public void setUp() {
+        final Grammar<Terminals> grammar = TestGrammars.createExpressionGrammar();
+        
+        parser = grammar.createParser();
+    }
+    
+    private static Token<Terminals> token(final Terminals terminal) {
+        return new StaticLexer.TerminalWrapper<>(terminal);
+    }
+    
+    @Test
+    public void testOfferAndFinish() {
+        final ParseSession<Terminals> session = parser.newSession();
+        
+        assertEquals(0, session.offer(token(Terminals.B)));
+        assertEquals(2, session.offer(token(Terminals.A)));
+        assertEquals(0, session.offer(token(Terminals.B)));
+        assertTrue(session.isOpen());
+        
+        assertEquals("E ::= [E ::= [T ::= [B]]] [A] [T ::= [B]]", session.finish());
+        assertFalse(session.isOpen());
+    }
+    
+    @Test
+    public void testSameResultAsParse() {
+        final Terminals[] input = {
+            Terminals.C, Terminals.C, Terminals.B, Terminals.D, Terminals.A, Terminals.C, Terminals.B, Terminals.D,
+            Terminals.D,
+        };
+        
+        final ParseSession<Terminals> session = parser.newSession();
+        for (final Terminals terminal : input) {
+            session.offer(token(terminal));
+        }
+        
+        assertEquals(parser.parse(new StaticLexer<>(input)), session.finish());
+    }
+    
+    @Test
+    public void testInterleavedSessions() {
+        final ParseSession<Terminals> first = parser.newSession();
+        final ParseSession<Terminals> second = parser.newSession();
+        
+        first.offer(token(Terminals.C));
+        second.offer(token(Terminals.B));
+        first.offer(token(Terminals.B));
+        second.offer(token(Terminals.A));
+        first.offer(token(Terminals.D));
+        second.offer(token(Terminals.B));
+        
+        assertEquals("E ::= [T ::= [C] [E ::= [T ::= [B]]] [D]]", first.finish());
+        assertEquals("E ::= [E ::= [T ::= [B]]] [A] [T ::= [B]]", second.finish());
+    }
+    
+    @Test
+    public void testInvalidToken() {
+        final ParseSession<Terminals> session = parser.newSession();
+        session.offer(token(Terminals.B));
+        
+        try {
+            session.offer(token(Terminals.B));
+            fail();
+        } catch (final IllegalStateException e) {
+            assertFalse(session.isOpen());
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testIncompleteInput() {
+        final ParseSession<Terminals> session = parser.newSession();
+        session.offer(token(Terminals.C));
+        session.offer(token(Terminals.B));
+        
+        session.finish();
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testOfferAfterFinish() {
+        final ParseSession<Terminals> session = parser.newSession();
+        session.offer(token(Terminals.B));
+        session.finish();
+        
+        session.offer(token(Terminals.A));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfferEndOfFile() {
+        parser.newSession().offer(token(Terminals.EOF));
+    }
+    
+}
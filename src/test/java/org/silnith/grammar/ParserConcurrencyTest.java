@@ -0,0 +1,104 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ParserConcurrencyTest {
+    
+    private static final int THREADS = 8;
+    
+    private static final int ITERATIONS = 2000;
+    
+    private List<Terminals[]> createInputs() {
+        final List<Terminals[]> inputs = new ArrayList<>();
+        inputs.add(input(Terminals.B));
+        inputs.add(input(Terminals.B, Terminals.A, Terminals.B));
+        inputs.add(input(Terminals.C, Terminals.B, Terminals.D));
+        inputs.add(input(Terminals.C, Terminals.B, Terminals.A, Terminals.B, Terminals.D, Terminals.A, Terminals.B));
+        inputs.add(input(Terminals.C, Terminals.C, Terminals.B, Terminals.D, Terminals.A, Terminals.C, Terminals.B,
+                Terminals.D, Terminals.D));
+        return inputs;
+    }
+    
+    private static Terminals[] input(final Terminals... terminals) {
+        return terminals;
+    }
+    
+    private void testConcurrentParse(final Parser<Terminals> parser) throws Exception {
+        final List<Terminals[]> inputs = createInputs();
+        final List<Object> expected = new ArrayList<>();
+        for (final Terminals[] input : inputs) {
+            expected.add(parser.parse(new StaticLexer<>(input)));
+        }
+        
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int offset = thread;
+                futures.add(executor.submit(new Callable<Void>() {
+                    
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        for (int i = 0; i < ITERATIONS; i++) {
+                            final int index = (i + offset) % inputs.size();
+                            assertEquals(expected.get(index), parser.parse(new StaticLexer<>(inputs.get(index))));
+                        }
+                        return null;
+                    }
+                    
+                }));
+            }
+            start.countDown();
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void testConcurrentParse() throws Exception {
+        testConcurrentParse(TestGrammars.createExpressionGrammar().createParser());
+    }
+    
+    @Test
+    public void testThreadedCreateParser() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final Parser<Terminals> parser = TestGrammars.createExpressionGrammar().threadedCreateParser(executor);
+            
+            assertEquals(TestGrammars.createExpressionGrammar().createParser().getParseTable().getStateCount(),
+                    parser.getParseTable().getStateCount());
+            testConcurrentParse(parser);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void testConcurrentParseLoaded() throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        TestGrammars.createExpressionGrammar().createParser(ParserKind.LALR1).save(outputStream);
+        
+        testConcurrentParse(Parser.load(new ByteArrayInputStream(outputStream.toByteArray()),
+                TestGrammars.createExpressionGrammar()));
+    }
+    
+}
@@ -0,0 +1,105 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ParserContextTest {
+    
+    private Parser<Terminals> parser;
+    
+    @Before
+    public void setUp() {
+        final Grammar<Terminals> grammar = TestGrammars.createExpressionGrammar();
+        
+        parser = grammar.createParser();
+    }
+    
+    private List<StaticLexer<Terminals>> createInputs(final int count) {
+        final List<StaticLexer<Terminals>> inputs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            switch (i % 3) {
+            case 0: {
+                inputs.add(new StaticLexer<>(Terminals.B));
+            } break;
+            case 1: {
+                inputs.add(new StaticLexer<>(Terminals.B, Terminals.A, Terminals.B));
+            } break;
+            default: {
+                inputs.add(new StaticLexer<>(Terminals.C, Terminals.B, Terminals.A, Terminals.B, Terminals.D));
+            } break;
+            }
+        }
+        return inputs;
+    }
+    
+    @Test
+    public void testReuseAfterFailure() {
+        final ParserContext<Terminals> context = parser.newContext();
+        
+        try {
+            context.parse(new StaticLexer<>(Terminals.C, Terminals.C, Terminals.B, Terminals.A));
+            fail();
+        } catch (final IllegalStateException e) {
+            // pass
+        }
+        
+        assertEquals("E ::= [T ::= [B]]", context.parse(new StaticLexer<>(Terminals.B)));
+    }
+    
+    @Test
+    public void testParseAll() {
+        final List<StaticLexer<Terminals>> inputs = createInputs(30);
+        
+        final List<Object> results = parser.parseAll(inputs);
+        
+        assertEquals(inputs.size(), results.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(parser.parse(inputs.get(i)), results.get(i));
+        }
+    }
+    
+    @Test
+    public void testParseAllParallel() throws Exception {
+        final List<StaticLexer<Terminals>> inputs = createInputs(1000);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(parser.parseAll(inputs), parser.parseAll(inputs, executorService, 64));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void testParseAllParallelFailure() throws Exception {
+        final List<StaticLexer<Terminals>> inputs = new ArrayList<>(createInputs(100));
+        inputs.add(50, new StaticLexer<>(Terminals.A));
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            parser.parseAll(inputs, executorService, 16);
+            fail();
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseAllBatchSize() throws Exception {
+        parser.parseAll(Arrays.asList(new StaticLexer<>(Terminals.B)), Executors.newSingleThreadExecutor(), 0);
+    }
+    
+}
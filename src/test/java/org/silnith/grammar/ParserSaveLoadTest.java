@@ -0,0 +1,143 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ParserSaveLoadTest {
+    
+    /*
+     * The offsets of the counts in the header, after the magic number, version, and grammar fingerprint.
+     */
+    
+    private static final int STATE_COUNT_OFFSET = 16;
+    
+    private static final int TERMINAL_COUNT_OFFSET = 20;
+    
+    private static final int NON_TERMINAL_COUNT_OFFSET = 24;
+    
+    private static final int PRODUCTION_COUNT_OFFSET = 28;
+    
+    private byte[] savedParser;
+    
+    @Before
+    public void setUp() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        TestGrammars.createNonLALRGrammar().createParser().save(outputStream);
+        savedParser = outputStream.toByteArray();
+    }
+    
+    @Test
+    public void testLoad() throws IOException {
+        final Parser<Terminals> parser =
+                Parser.load(new ByteArrayInputStream(savedParser), TestGrammars.createNonLALRGrammar());
+        
+        assertEquals("S ::= [A] [E ::= [E]] [C]", parser.parse(new StaticLexer<>(Terminals.A, Terminals.E, Terminals.C)));
+        assertEquals("S ::= [A] [F ::= [E]] [D]", parser.parse(new StaticLexer<>(Terminals.A, Terminals.E, Terminals.D)));
+        assertEquals("S ::= [B] [F ::= [E]] [C]", parser.parse(new StaticLexer<>(Terminals.B, Terminals.E, Terminals.C)));
+        assertEquals("S ::= [B] [E ::= [E]] [D]", parser.parse(new StaticLexer<>(Terminals.B, Terminals.E, Terminals.D)));
+    }
+    
+    @Test
+    public void testFingerprint() {
+        final Grammar<Terminals> grammar = TestGrammars.createNonLALRGrammar();
+        
+        assertEquals(TestGrammars.createNonLALRGrammar().getFingerprint(), grammar.getFingerprint());
+        
+        grammar.addProduction(grammar.getNonTerminalSymbol("F"), new TestProductionHandler("F"), Terminals.F);
+        
+        assertNotEquals(TestGrammars.createNonLALRGrammar().getFingerprint(), grammar.getFingerprint());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testLoadStale() throws IOException {
+        final Grammar<Terminals> grammar = TestGrammars.createNonLALRGrammar();
+        grammar.addProduction(grammar.getNonTerminalSymbol("F"), new TestProductionHandler("F"), Terminals.F);
+        
+        Parser.load(new ByteArrayInputStream(savedParser), grammar);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadCorrupt() throws IOException {
+        Parser.load(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}), TestGrammars.createNonLALRGrammar());
+    }
+    
+    private int readInt(final int offset) {
+        return ByteBuffer.wrap(savedParser).getInt(offset);
+    }
+    
+    /**
+     * Loads the saved parser with one {@code int} replaced.
+     */
+    private void loadCorrupted(final int offset, final int value) throws IOException {
+        final byte[] corrupted = savedParser.clone();
+        ByteBuffer.wrap(corrupted).putInt(offset, value);
+        Parser.load(new ByteArrayInputStream(corrupted), TestGrammars.createNonLALRGrammar());
+    }
+    
+    /**
+     * Returns the offset of the action table, which is followed only by the goto table.
+     */
+    private int getActionTableOffset() {
+        final int stateCount = readInt(STATE_COUNT_OFFSET);
+        final int tableSize = stateCount * (readInt(TERMINAL_COUNT_OFFSET) + readInt(NON_TERMINAL_COUNT_OFFSET));
+        return savedParser.length - tableSize * 4;
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadTooManyStates() throws IOException {
+        loadCorrupted(STATE_COUNT_OFFSET, Integer.MAX_VALUE);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadTooManyTerminals() throws IOException {
+        loadCorrupted(TERMINAL_COUNT_OFFSET, Integer.MAX_VALUE);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadNegativeNonTerminals() throws IOException {
+        loadCorrupted(NON_TERMINAL_COUNT_OFFSET, -1);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadTooManyNonTerminals() throws IOException {
+        loadCorrupted(NON_TERMINAL_COUNT_OFFSET, 1 << 20);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadShiftOutOfRange() throws IOException {
+        loadCorrupted(getActionTableOffset(),
+                ParseTable.encodeAction(ParseTable.SHIFT, readInt(STATE_COUNT_OFFSET)));
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadReduceOutOfRange() throws IOException {
+        loadCorrupted(getActionTableOffset(),
+                ParseTable.encodeAction(ParseTable.REDUCE, readInt(PRODUCTION_COUNT_OFFSET)));
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadAcceptWithOperand() throws IOException {
+        loadCorrupted(getActionTableOffset(), ParseTable.encodeAction(ParseTable.ACCEPT, 1));
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadGotoOutOfRange() throws IOException {
+        loadCorrupted(savedParser.length - 4, readInt(STATE_COUNT_OFFSET));
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLoadNegativeGoto() throws IOException {
+        loadCorrupted(savedParser.length - 4, -2);
+    }
+    
+}
@@ -0,0 +1,71 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ParserSourceGeneratorTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testGenerate() throws Exception {
+        final Grammar<Terminals> grammar = TestGrammars.createNonSLRGrammar();
+        final StringWriter writer = new StringWriter();
+        
+        new ParserSourceGenerator().generate(grammar.createParser(ParserKind.LALR1), "com.example.Tables", writer);
+        
+        final String source = writer.toString();
+        assertTrue(source.contains("package com.example;"));
+        assertTrue(source.contains("public final class Tables {"));
+        assertTrue(source.contains("0x" + Long.toHexString(grammar.getFingerprint()) + "L"));
+    }
+    
+    @Test
+    public void testCompileGenerated() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        
+        final File sourceDirectory = temporaryFolder.newFolder("src");
+        final File sourceFile = new File(sourceDirectory, "GeneratedTables.java");
+        try (final Writer writer = new OutputStreamWriter(new FileOutputStream(sourceFile), StandardCharsets.US_ASCII)) {
+            new ParserSourceGenerator().generate(TestGrammars.createNonSLRGrammar().createParser(ParserKind.LALR1),
+                    "GeneratedTables", writer);
+        }
+        
+        final File classDirectory = temporaryFolder.newFolder("classes");
+        assertEquals(0, compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"), "-d",
+                classDirectory.getPath(), sourceFile.getPath()));
+        
+        try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classDirectory.toURI().toURL()},
+                getClass().getClassLoader())) {
+            final Method createParser = classLoader.loadClass("GeneratedTables").getMethod("createParser", Grammar.class);
+            @SuppressWarnings("unchecked")
+            final Parser<Terminals> parser = (Parser<Terminals>) createParser.invoke(null, TestGrammars.createNonSLRGrammar());
+            
+            assertEquals("S ::= [B] [A ::= [D]] [C]", parser.parse(new StaticLexer<>(Terminals.B, Terminals.D, Terminals.C)));
+            assertEquals("S ::= [B] [D] [A]", parser.parse(new StaticLexer<>(Terminals.B, Terminals.D, Terminals.A)));
+        }
+    }
+    
+}
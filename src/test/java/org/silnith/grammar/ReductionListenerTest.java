@@ -0,0 +1,64 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class ReductionListenerTest {
+    
+    private static class RecordingListener implements ReductionListener {
+        
+        private final List<String> reductions = new ArrayList<>();
+        
+        @Override
+        public void reduced(final int production, final long start, final long end) {
+            reductions.add(production + ":[" + start + "," + end + ")");
+        }
+        
+    }
+    
+    @Test
+    public void testReductions() {
+        final Grammar<Terminals> grammar = TestGrammars.createExpressionGrammar();
+        
+        final Parser<Terminals> parser = grammar.createParser();
+        final RecordingListener listener = new RecordingListener();
+        
+        parser.parse(new StaticLexer<>(Terminals.B, Terminals.A, Terminals.C, Terminals.B, Terminals.D), listener);
+        
+        assertEquals(Arrays.asList("2:[0,1)", "1:[0,1)", "2:[3,4)", "1:[3,4)", "3:[2,5)", "0:[0,5)"),
+                listener.reductions);
+    }
+    
+    @Test
+    public void testEmptyProduction() {
+        final Grammar<Terminals> grammar = TestGrammars.createNullableGrammar();
+        
+        final Parser<Terminals> parser = grammar.createParser();
+        final RecordingListener listener = new RecordingListener();
+        
+        parser.parse(new StaticLexer<>(Terminals.A, Terminals.A, Terminals.C), listener);
+        
+        assertEquals(Arrays.asList("2:[0,0)", "1:[0,1)", "1:[0,2)", "4:[2,2)", "0:[0,3)"), listener.reductions);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testInvalidInput() {
+        final Grammar<Terminals> grammar = new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class));
+        
+        final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
+        
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), Terminals.A, Terminals.B);
+        grammar.setStartSymbol(nonTerminalS);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        grammar.createParser().parse(new StaticLexer<>(Terminals.A, Terminals.A), new RecordingListener());
+    }
+    
+}
@@ -0,0 +1,111 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.silnith.grammar.example.Terminals;
+
+
+public class RightHandSideHandlerTest {
+    
+    /**
+     * Produces the same output as {@link TestProductionHandler}, but reads the right-hand side through the view.
+     */
+    private static class TestRightHandSideHandler extends AbstractRightHandSideHandler {
+        
+        private final String prefix;
+        
+        public TestRightHandSideHandler(final String prefix) {
+            super();
+            this.prefix = prefix;
+        }
+        
+        @Override
+        public Object handleReduction(final RightHandSide rightHandSide) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append(prefix);
+            
+            String separator = " ::= ";
+            
+            for (int i = 0; i < rightHandSide.size(); i++) {
+                stringBuilder.append(separator);
+                stringBuilder.append('[');
+                stringBuilder.append(rightHandSide.get(i));
+                stringBuilder.append(']');
+                
+                separator = " ";
+            }
+            
+            return stringBuilder.toString();
+        }
+        
+    }
+    
+    private Parser<Terminals> parser;
+    
+    @Before
+    public void setUp() {
+        parser = TestGrammars.createNonLALRGrammar(new TestRightHandSideHandler("S"), new TestRightHandSideHandler("E"),
+                new TestProductionHandler("F")).createParser();
+    }
+    
+    @Test
+    public void testHandleReduction() {
+        assertEquals("S ::= [A] [E ::= [E]] [C]", parser.parse(new StaticLexer<>(Terminals.A, Terminals.E, Terminals.C)));
+    }
+    
+    @Test
+    public void testHandleReductionEmpty() {
+        final Grammar<Terminals> grammar = TestGrammars.createEmptyGrammar();
+        final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
+        final NonTerminalSymbol nonTerminalE = grammar.getNonTerminalSymbol("E");
+        grammar.addProduction(nonTerminalS, new TestRightHandSideHandler("S"), Terminals.A, nonTerminalE, Terminals.C);
+        grammar.addProduction(nonTerminalE, new TestRightHandSideHandler("E"));
+        grammar.setStartSymbol(nonTerminalS);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        assertEquals("S ::= [A] [E] [C]", grammar.createParser().parse(new StaticLexer<>(Terminals.A, Terminals.C)));
+    }
+    
+    @Test
+    public void testMixedHandlers() {
+        assertEquals("S ::= [B] [F ::= [E]] [C]", parser.parse(new StaticLexer<>(Terminals.B, Terminals.E, Terminals.C)));
+    }
+    
+    @Test
+    public void testGetOutOfBounds() {
+        final Grammar<Terminals> grammar = TestGrammars.createEmptyGrammar();
+        final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
+        grammar.addProduction(nonTerminalS, new AbstractRightHandSideHandler() {
+            
+            @Override
+            public Object handleReduction(final RightHandSide rightHandSide) {
+                try {
+                    rightHandSide.get(rightHandSide.size());
+                    fail();
+                } catch (final IndexOutOfBoundsException e) {
+                    // pass
+                }
+                return rightHandSide.get(0);
+            }
+            
+        }, Terminals.A);
+        grammar.setStartSymbol(nonTerminalS);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        assertEquals("A", grammar.createParser().parse(new StaticLexer<>(Terminals.A)).toString());
+    }
+    
+    @Test
+    public void testAdaptList() {
+        final List<Object> list = Arrays.<Object>asList("a", "b");
+        
+        assertEquals("X ::= [a] [b]", new TestRightHandSideHandler("X").handleReduction(list));
+    }
+    
+}
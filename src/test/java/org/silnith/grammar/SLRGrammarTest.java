@@ -10,11 +10,13 @@ import org.silnith.grammar.example.Terminals;
  */
 public class SLRGrammarTest {
 	
+	private Grammar<Terminals> grammar;
+	
 	private Parser<Terminals> parser;
 	
 	@Before
 	public void setUp() {
-        final Grammar<Terminals> grammar = new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class));
+        grammar = new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class));
         
         final NonTerminalSymbol nonTerminalA = grammar.getNonTerminalSymbol("A");
         final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
@@ -59,4 +61,13 @@ public class SLRGrammarTest {
 		final Object ast3 = parser.parse(new StaticLexer<>(Terminals.B, Terminals.D, Terminals.C));
 	}
 
+	@Test
+	public void testLALRParser() {
+		final Parser<Terminals> lalrParser = grammar.createParser(ParserKind.LALR1);
+		
+		Assert.assertEquals("S ::= [A ::= [D]] [A]", lalrParser.parse(new StaticLexer<>(Terminals.D, Terminals.A)));
+		Assert.assertEquals("S ::= [B] [D] [A]", lalrParser.parse(new StaticLexer<>(Terminals.B, Terminals.D, Terminals.A)));
+		Assert.assertEquals("S ::= [B] [A ::= [D]] [C]", lalrParser.parse(new StaticLexer<>(Terminals.B, Terminals.D, Terminals.C)));
+	}
+
 }
@@ -0,0 +1,101 @@
+package org.silnith.grammar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TerminalBitSetTest {
+    
+    private List<Identifier> lexicon;
+    
+    private TerminalBitSetFactory<Identifier> setFactory;
+    
+    @Before
+    public void setUp() {
+        lexicon = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            lexicon.add(new Identifier("t" + i));
+        }
+        setFactory = new TerminalBitSetFactory<>(lexicon);
+    }
+    
+    @Test
+    public void testAdd() {
+        final Set<Identifier> set = setFactory.getNewSet();
+        
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(lexicon.get(3)));
+        assertTrue(set.add(lexicon.get(70)));
+        assertFalse(set.add(new Identifier("t3")));
+        
+        assertEquals(2, set.size());
+        assertTrue(set.contains(lexicon.get(3)));
+        assertTrue(set.contains(lexicon.get(70)));
+        assertFalse(set.contains(lexicon.get(4)));
+        assertFalse(set.contains(new Identifier("unknown")));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddUnknown() {
+        setFactory.getNewSet().add(new Identifier("unknown"));
+    }
+    
+    @Test
+    public void testAddAll() {
+        final Set<Identifier> a = setFactory.getNewSet(Arrays.asList(lexicon.get(1), lexicon.get(65)));
+        final Set<Identifier> b = setFactory.getNewSet(Arrays.asList(lexicon.get(65), lexicon.get(99)));
+        
+        assertTrue(a.addAll(b));
+        assertFalse(a.addAll(b));
+        assertEquals(3, a.size());
+        assertTrue(a.containsAll(b));
+        assertFalse(b.containsAll(a));
+    }
+    
+    @Test
+    public void testIterationOrder() {
+        final Set<Identifier> set = setFactory.getNewSet(Arrays.asList(lexicon.get(80), lexicon.get(0), lexicon.get(64)));
+        
+        assertEquals(Arrays.asList(lexicon.get(0), lexicon.get(64), lexicon.get(80)), new ArrayList<>(set));
+    }
+    
+    @Test
+    public void testEqualsHashSet() {
+        final Set<Identifier> set = setFactory.getNewSet(Arrays.asList(lexicon.get(5), lexicon.get(50)));
+        final Set<Identifier> hashSet = new HashSet<>(Arrays.asList(lexicon.get(5), lexicon.get(50)));
+        
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+    }
+    
+    @Test
+    public void testCopy() {
+        final Set<Identifier> set = setFactory.getNewSet(Arrays.asList(lexicon.get(5)));
+        final Set<Identifier> copy = setFactory.getNewSet(set);
+        
+        assertNotSame(set, copy);
+        assertEquals(set, copy);
+        copy.add(lexicon.get(6));
+        assertFalse(set.contains(lexicon.get(6)));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableView() {
+        final TerminalBitSet<Identifier> set = (TerminalBitSet<Identifier>) setFactory.getNewSet();
+        
+        set.unmodifiableView().add(lexicon.get(0));
+    }
+    
+}
@@ -0,0 +1,186 @@
+package org.silnith.grammar;
+
+import org.silnith.grammar.example.Terminals;
+
+
+/**
+ * Small grammars over the example {@link Terminals}, shared by the tests.  Every call returns a new grammar that has
+ * not been computed, so a test may add productions to it or create as many parsers from it as it needs.  The
+ * productions are added in the order shown, so their ordinals are the same every time.  In the listings, terminals
+ * are written in lower case.
+ */
+public final class TestGrammars {
+    
+    private TestGrammars() {
+        super();
+    }
+    
+    /**
+     * Creates an empty grammar over the example terminals.
+     * 
+     * @return a new grammar with no productions
+     */
+    public static Grammar<Terminals> createEmptyGrammar() {
+        return new Grammar<Terminals>(new EnumSetFactory<>(Terminals.class));
+    }
+    
+    /**
+     * Creates a left-recursive expression grammar, which is LALR(1):
+     * 
+     * <pre>
+     * 0: E ::= E a T
+     * 1: E ::= T
+     * 2: T ::= b
+     * 3: T ::= c E d
+     * </pre>
+     * 
+     * @return a new expression grammar
+     */
+    public static Grammar<Terminals> createExpressionGrammar() {
+        return addExpressionProductions(createEmptyGrammar());
+    }
+    
+    /**
+     * Adds the productions of {@link #createExpressionGrammar()} to a grammar, and sets its start and end-of-file
+     * symbols.
+     * 
+     * @param grammar the grammar to add the productions to
+     * @return the grammar
+     */
+    public static Grammar<Terminals> addExpressionProductions(final Grammar<Terminals> grammar) {
+        return addExpressionProductions(grammar, new TestProductionHandler("T"));
+    }
+    
+    /**
+     * Adds the productions of {@link #createExpressionGrammar()} to a grammar, using a particular handler for
+     * {@code T ::= b}, and sets its start and end-of-file symbols.
+     * 
+     * @param grammar the grammar to add the productions to
+     * @param termHandler the handler for {@code T ::= b}
+     * @return the grammar
+     */
+    public static Grammar<Terminals> addExpressionProductions(final Grammar<Terminals> grammar,
+            final ProductionHandler termHandler) {
+        final NonTerminalSymbol nonTerminalE = grammar.getNonTerminalSymbol("E");
+        final NonTerminalSymbol nonTerminalT = grammar.getNonTerminalSymbol("T");
+        
+        grammar.addProduction(nonTerminalE, new TestProductionHandler("E"), nonTerminalE, Terminals.A, nonTerminalT);
+        grammar.addProduction(nonTerminalE, new TestProductionHandler("E"), nonTerminalT);
+        grammar.addProduction(nonTerminalT, termHandler, Terminals.B);
+        grammar.addProduction(nonTerminalT, new TestProductionHandler("T"), Terminals.C, nonTerminalE, Terminals.D);
+        grammar.setStartSymbol(nonTerminalE);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        return grammar;
+    }
+    
+    /**
+     * Creates a grammar that is LR(1) but not LALR(1).  Merging the LR(1) states that reduce {@code E} and {@code F}
+     * after {@code a e} and {@code b e} would create a reduce-reduce conflict.
+     * 
+     * <pre>
+     * 0: S ::= a E c
+     * 1: S ::= a F d
+     * 2: S ::= b F c
+     * 3: S ::= b E d
+     * 4: E ::= e
+     * 5: F ::= e
+     * </pre>
+     * 
+     * @return a new grammar that is not LALR(1)
+     */
+    public static Grammar<Terminals> createNonLALRGrammar() {
+        return createNonLALRGrammar(new TestProductionHandler("S"), new TestProductionHandler("E"),
+                new TestProductionHandler("F"));
+    }
+    
+    /**
+     * Creates the grammar of {@link #createNonLALRGrammar()} with particular handlers for each non-terminal.
+     * 
+     * @param handlerS the handler for the productions of {@code S}
+     * @param handlerE the handler for the production of {@code E}
+     * @param handlerF the handler for the production of {@code F}
+     * @return a new grammar that is not LALR(1)
+     */
+    public static Grammar<Terminals> createNonLALRGrammar(final ProductionHandler handlerS,
+            final ProductionHandler handlerE, final ProductionHandler handlerF) {
+        final Grammar<Terminals> grammar = createEmptyGrammar();
+        
+        final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
+        final NonTerminalSymbol nonTerminalE = grammar.getNonTerminalSymbol("E");
+        final NonTerminalSymbol nonTerminalF = grammar.getNonTerminalSymbol("F");
+        
+        grammar.addProduction(nonTerminalS, handlerS, Terminals.A, nonTerminalE, Terminals.C);
+        grammar.addProduction(nonTerminalS, handlerS, Terminals.A, nonTerminalF, Terminals.D);
+        grammar.addProduction(nonTerminalS, handlerS, Terminals.B, nonTerminalF, Terminals.C);
+        grammar.addProduction(nonTerminalS, handlerS, Terminals.B, nonTerminalE, Terminals.D);
+        grammar.addProduction(nonTerminalE, handlerE, Terminals.E);
+        grammar.addProduction(nonTerminalF, handlerF, Terminals.E);
+        grammar.setStartSymbol(nonTerminalS);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        return grammar;
+    }
+    
+    /**
+     * Creates a grammar that is LALR(1) but not SLR(1).
+     * 
+     * <pre>
+     * 0: A ::= d
+     * 1: S ::= A a
+     * 2: S ::= b A c
+     * 3: S ::= d c
+     * 4: S ::= b d a
+     * </pre>
+     * 
+     * @return a new grammar that is not SLR(1)
+     */
+    public static Grammar<Terminals> createNonSLRGrammar() {
+        final Grammar<Terminals> grammar = createEmptyGrammar();
+        
+        final NonTerminalSymbol nonTerminalA = grammar.getNonTerminalSymbol("A");
+        final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
+        
+        grammar.addProduction(nonTerminalA, new TestProductionHandler("A"), Terminals.D);
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), nonTerminalA, Terminals.A);
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), Terminals.B, nonTerminalA, Terminals.C);
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), Terminals.D, Terminals.C);
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), Terminals.B, Terminals.D, Terminals.A);
+        grammar.setStartSymbol(nonTerminalS);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        return grammar;
+    }
+    
+    /**
+     * Creates a grammar with empty productions, so that reductions happen without consuming any input.
+     * 
+     * <pre>
+     * 0: S ::= E F c
+     * 1: E ::= E a
+     * 2: E ::=
+     * 3: F ::= b F
+     * 4: F ::=
+     * </pre>
+     * 
+     * @return a new grammar with empty productions
+     */
+    public static Grammar<Terminals> createNullableGrammar() {
+        final Grammar<Terminals> grammar = createEmptyGrammar();
+        
+        final NonTerminalSymbol nonTerminalS = grammar.getNonTerminalSymbol("S");
+        final NonTerminalSymbol nonTerminalE = grammar.getNonTerminalSymbol("E");
+        final NonTerminalSymbol nonTerminalF = grammar.getNonTerminalSymbol("F");
+        
+        grammar.addProduction(nonTerminalS, new TestProductionHandler("S"), nonTerminalE, nonTerminalF, Terminals.C);
+        grammar.addProduction(nonTerminalE, new TestProductionHandler("E"), nonTerminalE, Terminals.A);
+        grammar.addProduction(nonTerminalE, new TestProductionHandler("E"));
+        grammar.addProduction(nonTerminalF, new TestProductionHandler("F"), Terminals.B, nonTerminalF);
+        grammar.addProduction(nonTerminalF, new TestProductionHandler("F"));
+        grammar.setStartSymbol(nonTerminalS);
+        grammar.setEndOfFileSymbol(Terminals.EOF);
+        
+        return grammar;
+    }
+    
+}
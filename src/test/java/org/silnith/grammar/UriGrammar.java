@@ -0,0 +1,328 @@
+package org.silnith.grammar;
+
+import static org.silnith.grammar.uri.token.UriTerminalType.AlphaHex;
+import static org.silnith.grammar.uri.token.UriTerminalType.AlphaNonHex;
+import static org.silnith.grammar.uri.token.UriTerminalType.Ampersand;
+import static org.silnith.grammar.uri.token.UriTerminalType.Apostrophe;
+import static org.silnith.grammar.uri.token.UriTerminalType.Asterisk;
+import static org.silnith.grammar.uri.token.UriTerminalType.AtSign;
+import static org.silnith.grammar.uri.token.UriTerminalType.Colon;
+import static org.silnith.grammar.uri.token.UriTerminalType.Comma;
+import static org.silnith.grammar.uri.token.UriTerminalType.Digit;
+import static org.silnith.grammar.uri.token.UriTerminalType.Dollar;
+import static org.silnith.grammar.uri.token.UriTerminalType.EndOfFile;
+import static org.silnith.grammar.uri.token.UriTerminalType.Equals;
+import static org.silnith.grammar.uri.token.UriTerminalType.ExclamationMark;
+import static org.silnith.grammar.uri.token.UriTerminalType.ForwardSlash;
+import static org.silnith.grammar.uri.token.UriTerminalType.Hyphen;
+import static org.silnith.grammar.uri.token.UriTerminalType.LeftBracket;
+import static org.silnith.grammar.uri.token.UriTerminalType.LeftParenthesis;
+import static org.silnith.grammar.uri.token.UriTerminalType.NumberSign;
+import static org.silnith.grammar.uri.token.UriTerminalType.Percent;
+import static org.silnith.grammar.uri.token.UriTerminalType.Period;
+import static org.silnith.grammar.uri.token.UriTerminalType.Plus;
+import static org.silnith.grammar.uri.token.UriTerminalType.QuestionMark;
+import static org.silnith.grammar.uri.token.UriTerminalType.RightBracket;
+import static org.silnith.grammar.uri.token.UriTerminalType.RightParenthesis;
+import static org.silnith.grammar.uri.token.UriTerminalType.Semicolon;
+import static org.silnith.grammar.uri.token.UriTerminalType.Tilde;
+import static org.silnith.grammar.uri.token.UriTerminalType.Underscore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+import org.silnith.grammar.uri.production.FragmentProductionHandler;
+import org.silnith.grammar.uri.production.PercentEncodedProductionHandler;
+import org.silnith.grammar.uri.production.PortProductionHandler;
+import org.silnith.grammar.uri.production.QueryProductionHandler;
+import org.silnith.grammar.uri.production.SchemeProductionHandler;
+import org.silnith.grammar.uri.production.SegmentProductionHandler;
+import org.silnith.grammar.uri.token.UriTerminalType;
+
+
+/**
+ * The URI grammar from <a href="https://tools.ietf.org/html/rfc3986">RFC 3986</a>, shared by {@link UrlParserTest} and
+ * the benchmarks.  The non-terminal symbols are named after the rules in the RFC.  The start symbol is not set, so the
+ * caller should choose the rule to parse.
+ */
+public class UriGrammar implements Callable<Grammar<UriTerminalType>> {
+    
+    /**
+     * Creates the grammar, without computing it.
+     * 
+     * @return the URI grammar
+     */
+    @Override
+    public Grammar<UriTerminalType> call() {
+        final Grammar<UriTerminalType> grammar = new Grammar<UriTerminalType>(new EnumSetFactory<>(UriTerminalType.class));
+        
+        grammar.setEndOfFileSymbol(EndOfFile);
+        
+        final NonTerminalSymbol pctEncoded = grammar.getNonTerminalSymbol("pct-encoded");
+//        final NonTerminalSymbol unreserved = grammar.getNonTerminalSymbol("unreserved");
+
+        final NonTerminalSymbol uri = grammar.getNonTerminalSymbol("URI");
+        final NonTerminalSymbol scheme = grammar.getNonTerminalSymbol("scheme");
+        final NonTerminalSymbol hierPart = grammar.getNonTerminalSymbol("hier-part");
+        final NonTerminalSymbol query = grammar.getNonTerminalSymbol("query");
+        final NonTerminalSymbol fragment = grammar.getNonTerminalSymbol("fragment");
+
+        final NonTerminalSymbol authority = grammar.getNonTerminalSymbol("authority");
+        final NonTerminalSymbol pathAbEmpty = grammar.getNonTerminalSymbol("path-abempty");
+        final NonTerminalSymbol pathAbsolute = grammar.getNonTerminalSymbol("path-absolute");
+        final NonTerminalSymbol pathRootless = grammar.getNonTerminalSymbol("path-rootless");
+        final NonTerminalSymbol pathEmpty = grammar.getNonTerminalSymbol("path-empty");
+
+        final NonTerminalSymbol userinfo = grammar.getNonTerminalSymbol("userinfo");
+        final NonTerminalSymbol host = grammar.getNonTerminalSymbol("host");
+        final NonTerminalSymbol port = grammar.getNonTerminalSymbol("port");
+
+        final NonTerminalSymbol ipLiteral = grammar.getNonTerminalSymbol("IP-literal");
+        final NonTerminalSymbol ipv4address = grammar.getNonTerminalSymbol("IPv4address");
+        final NonTerminalSymbol regName = grammar.getNonTerminalSymbol("reg-name");
+        
+        final NonTerminalSymbol ipv6address = grammar.getNonTerminalSymbol("IPv6address");
+        final NonTerminalSymbol ipFuture = grammar.getNonTerminalSymbol("IPvFuture");
+
+        final NonTerminalSymbol ipFutureVersion = grammar.getNonTerminalSymbol("IPvFuture-version");
+        final NonTerminalSymbol ipFutureContent = grammar.getNonTerminalSymbol("IPvFuture-content");
+
+        final NonTerminalSymbol decOctet = grammar.getNonTerminalSymbol("dec-octet");
+        
+        final NonTerminalSymbol path = grammar.getNonTerminalSymbol("path");
+        final NonTerminalSymbol pathNoScheme = grammar.getNonTerminalSymbol("path-noscheme");
+        final NonTerminalSymbol segment = grammar.getNonTerminalSymbol("segment");
+        final NonTerminalSymbol segmentNz = grammar.getNonTerminalSymbol("segment-nz");
+        final NonTerminalSymbol segmentNzNc = grammar.getNonTerminalSymbol("segment-nz-nc");
+        
+        final NonTerminalSymbol segmentSequence = grammar.getNonTerminalSymbol("segment-sequence");
+        
+        final NonTerminalSymbol uriReference = grammar.getNonTerminalSymbol("URI-reference");
+        final NonTerminalSymbol relativeRef = grammar.getNonTerminalSymbol("relative-ref");
+        final NonTerminalSymbol relativePart = grammar.getNonTerminalSymbol("relative-part");
+
+        final NonTerminalSymbol absoluteUri = grammar.getNonTerminalSymbol("absolute-URI");
+        
+        // gen-delims = ":" / "/" / "?" / "#" / "[" / "]" / "@"
+        final Collection<UriTerminalType> genDelims = new ArrayList<>(7);
+        genDelims.addAll(Arrays.asList(Colon, ForwardSlash, QuestionMark, NumberSign, LeftBracket, RightBracket, AtSign));
+
+        // sub-delims = "!" / "$" / "&" / "'" / "(" / ")" / "*" / "+" / "," / ";" / "="
+        final Collection<UriTerminalType> subDelims = new ArrayList<>(11);
+        subDelims.addAll(Arrays.asList(ExclamationMark, Dollar, Ampersand, Apostrophe, LeftParenthesis, RightParenthesis,
+                Asterisk, Plus, Comma, Semicolon, Equals));
+        
+        final Collection<UriTerminalType> unreservedSymbols = new ArrayList<>(7);
+        unreservedSymbols.addAll(Arrays.asList(Digit, AlphaHex, AlphaNonHex, Hyphen, Period, Underscore, Tilde));
+
+        // pct-encoded = "%" HEXDIG HEXDIG
+        grammar.addProduction(pctEncoded, PercentEncodedProductionHandler.getInstance(), Percent, Digit, Digit);
+        grammar.addProduction(pctEncoded, PercentEncodedProductionHandler.getInstance(), Percent, Digit, AlphaHex);
+        grammar.addProduction(pctEncoded, PercentEncodedProductionHandler.getInstance(), Percent, AlphaHex, Digit);
+        grammar.addProduction(pctEncoded, PercentEncodedProductionHandler.getInstance(), Percent, AlphaHex, AlphaHex);
+        
+        // reserved = gen-delims / sub-delims
+        
+        // unreserved = ALPHA / DIGIT / "-" / "." / "_" / "~"
+        
+        // hier-part = "//" authority path-abempty / path-absolute / path-rootless / path-empty
+        grammar.addProduction(hierPart, new TestProductionHandler("hier-part"), ForwardSlash, ForwardSlash, authority, pathAbEmpty);
+        grammar.addProduction(hierPart, new TestProductionHandler("hier-part"), pathAbsolute);
+        grammar.addProduction(hierPart, new TestProductionHandler("hier-part"), pathRootless);
+        grammar.addProduction(hierPart, new TestProductionHandler("hier-part"), pathEmpty);
+        
+        // scheme = ALPHA *( ALPHA / DIGIT / "+" / "-" / ".")
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), AlphaHex);
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), AlphaNonHex);
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), scheme, AlphaHex);
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), scheme, AlphaNonHex);
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), scheme, Digit);
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), scheme, Plus);
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), scheme, Hyphen);
+        grammar.addProduction(scheme, SchemeProductionHandler.getInstance(), scheme, Period);
+
+        // IP-literal = "[" ( IPv6address / IPvFuture ) "]"
+        grammar.addProduction(ipLiteral, new TestProductionHandler("IP-literal"), LeftBracket, ipv6address, RightBracket);
+        grammar.addProduction(ipLiteral, new TestProductionHandler("IP-literal"), LeftBracket, ipFuture, RightBracket);
+
+        // IPvFuture = "v" 1*HEXDIG "." 1*( unreserved / sub-delims / ":" )
+        
+        // TODO: IPv6 (it's really nasty)
+        // IPv6address = 6( h16 ":" ) ls32 / "::" 5( h16 ":" ) ls32
+        
+        // h16 = 1*4HEXDIG
+        // ls32 = ( h16 ":" h16 ) / IPv4address
+        
+        // IPv4address = dec-octet "." dec-octet "." dec-octet "." dec-octet
+        grammar.addProduction(ipv4address, new TestProductionHandler("IPv4address"), decOctet, Period, decOctet, Period, decOctet, Period, decOctet);
+
+        // dec-octet = DIGIT / %x31-39 DIGIT / "1" 2DIGIT / "2" %x30-34 DIGIT / "25" %x30-35
+        grammar.addProduction(decOctet, new TestProductionHandler("dec-octet"), Digit);
+        grammar.addProduction(decOctet, new TestProductionHandler("dec-octet"), Digit, Digit);
+        grammar.addProduction(decOctet, new TestProductionHandler("dec-octet"), Digit, Digit, Digit);
+        
+        // path = path-abempty / path-absolute / path-noscheme / pathrootless / path-empty
+        grammar.addProduction(path, new TestProductionHandler("path"), pathAbEmpty);
+        grammar.addProduction(path, new TestProductionHandler("path"), pathAbsolute);
+        grammar.addProduction(path, new TestProductionHandler("path"), pathNoScheme);
+        grammar.addProduction(path, new TestProductionHandler("path"), pathRootless);
+        grammar.addProduction(path, new TestProductionHandler("path"), pathEmpty);
+
+        // path-rootless = segment-nz *( "/" segment )
+        grammar.addProduction(pathRootless, new TestProductionHandler("path-rootless"), segmentNz, segmentSequence);
+        
+        // pchar = unreserved / pct-encoded / sub-delims / ":" / "@"
+
+        // query = *( pchar / "/" / "?" )
+        // query = *( unreserved / pct-encoded / sub-delims / ":" / "@" / "/" / "?" )
+        for (final UriTerminalType unreserved : unreservedSymbols) {
+            grammar.addProduction(query, QueryProductionHandler.getInstance(), unreserved, query);
+        }
+        grammar.addProduction(query, QueryProductionHandler.getInstance(), pctEncoded, query);
+        for (final UriTerminalType subDelim : subDelims) {
+            grammar.addProduction(query, QueryProductionHandler.getInstance(), subDelim, query);
+        }
+        grammar.addProduction(query, QueryProductionHandler.getInstance(), Colon, query);
+        grammar.addProduction(query, QueryProductionHandler.getInstance(), AtSign, query);
+        grammar.addProduction(query, QueryProductionHandler.getInstance(), ForwardSlash, query);
+        grammar.addProduction(query, QueryProductionHandler.getInstance(), QuestionMark, query);
+        grammar.addProduction(query, QueryProductionHandler.getInstance());
+
+        // absolute-URI = scheme ":" hier-part [ "?" query ]
+        grammar.addProduction(absoluteUri, new TestProductionHandler("absolute-URI"), scheme, Colon, hierPart);
+        grammar.addProduction(absoluteUri, new TestProductionHandler("absolute-URI"), scheme, Colon, hierPart, QuestionMark, query);
+
+        // fragment = *( pchar / "/" / "?" )
+        // fragment = *( unreserved / pct-encoded / sub-delims / ":" / "@" / "/" / "?" )
+        for (final UriTerminalType unreserved : unreservedSymbols) {
+            grammar.addProduction(fragment, FragmentProductionHandler.getInstance(), unreserved, fragment);
+        }
+        grammar.addProduction(fragment, FragmentProductionHandler.getInstance(), pctEncoded, fragment);
+        for (final UriTerminalType subDelim : subDelims) {
+            grammar.addProduction(fragment, FragmentProductionHandler.getInstance(), subDelim, fragment);
+        }
+        grammar.addProduction(fragment, FragmentProductionHandler.getInstance(), Colon, fragment);
+        grammar.addProduction(fragment, FragmentProductionHandler.getInstance(), AtSign, fragment);
+        grammar.addProduction(fragment, FragmentProductionHandler.getInstance(), ForwardSlash, fragment);
+        grammar.addProduction(fragment, FragmentProductionHandler.getInstance(), QuestionMark, fragment);
+        grammar.addProduction(fragment, FragmentProductionHandler.getInstance());
+        
+        // userinfo = *( unreserved / pct-encoded / sub-delims / ":" )
+        for (final UriTerminalType unreserved : unreservedSymbols) {
+            grammar.addProduction(userinfo, new TestProductionHandler("userinfo"), unreserved, userinfo);
+        }
+        grammar.addProduction(userinfo, new TestProductionHandler("userinfo"), pctEncoded, userinfo);
+        for (final UriTerminalType subDelim : subDelims) {
+            grammar.addProduction(userinfo, new TestProductionHandler("userinfo"), subDelim, userinfo);
+        }
+        grammar.addProduction(userinfo, new TestProductionHandler("userinfo"), Colon, userinfo);
+        grammar.addProduction(userinfo, new TestProductionHandler("userinfo"));
+
+        // TODO: ambiguous with IPv4address
+        // reg-name = *( unreserved / pct-encoded / sub-delims )
+        for (final UriTerminalType unreserved : unreservedSymbols) {
+            grammar.addProduction(regName, new TestProductionHandler("reg-name"), unreserved, regName);
+        }
+        grammar.addProduction(regName, new TestProductionHandler("reg-name"), pctEncoded, regName);
+        for (final UriTerminalType subDelim : subDelims) {
+            grammar.addProduction(regName, new TestProductionHandler("reg-name"), subDelim, regName);
+        }
+        grammar.addProduction(regName, new TestProductionHandler("reg-name"));
+
+        // host = IP-literal / IPv4address / reg-name
+//        grammar.addProduction(host, new TestProductionHandler("host"), ipLiteral);
+//        grammar.addProduction(host, new TestProductionHandler("host"), ipv4address);
+        grammar.addProduction(host, new TestProductionHandler("host"), regName);
+
+        // port = *DIGIT
+        grammar.addProduction(port, PortProductionHandler.getInstance());
+        grammar.addProduction(port, PortProductionHandler.getInstance(), Digit, port);
+
+        // authority = [ userinfo "@" ] host [ ":" port ]
+        grammar.addProduction(authority, new TestProductionHandler("authority"), host);
+        grammar.addProduction(authority, new TestProductionHandler("authority"), host, Colon, port);
+//        grammar.addProduction(authority, new TestProductionHandler("authority"), userinfo, AtSign, host);
+//        grammar.addProduction(authority, new TestProductionHandler("authority"), userinfo, AtSign, host, Colon, port);
+
+        // segment-nz-nc = 1*( unreserved / pct-encoded / sub-delims / "@" )
+        for (final UriTerminalType unreserved : unreservedSymbols) {
+            grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), unreserved);
+            grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), unreserved, segmentNzNc);
+        }
+        grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), pctEncoded);
+        grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), pctEncoded, segmentNzNc);
+        for (final UriTerminalType subDelim : subDelims) {
+            grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), subDelim);
+            grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), subDelim, segmentNzNc);
+        }
+        grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), AtSign);
+        grammar.addProduction(segmentNzNc, SegmentProductionHandler.getInstance(), AtSign, segmentNzNc);
+
+        // segment-nz = 1*pchar
+        // segment-nz = 1*( unreserved / pct-encoded / sub-delims / ":" / "@" )
+        for (final UriTerminalType unreserved : unreservedSymbols) {
+            grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), unreserved);
+            grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), unreserved, segmentNz);
+        }
+        grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), pctEncoded);
+        grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), pctEncoded, segmentNz);
+        for (final UriTerminalType subDelim : subDelims) {
+            grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), subDelim);
+            grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), subDelim, segmentNz);
+        }
+        grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), Colon);
+        grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), Colon, segmentNz);
+        grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), AtSign);
+        grammar.addProduction(segmentNz, SegmentProductionHandler.getInstance(), AtSign, segmentNz);
+        
+        // segment = *pchar
+        // segment = *( unreserved / pct-encoded / sub-delims / ":" / "@" )
+        grammar.addProduction(segment, SegmentProductionHandler.getInstance());
+        grammar.addProduction(segment, SegmentProductionHandler.getInstance(), segmentNz);
+        
+        // segment-sequence = *( "/" segment )
+        grammar.addProduction(segmentSequence, new TestProductionHandler("segment-sequence"), ForwardSlash, segment, segmentSequence);
+        grammar.addProduction(segmentSequence, new TestProductionHandler("segment-sequence"));
+
+        // path-abempty = *( "/" segment )
+        grammar.addProduction(pathAbEmpty, new TestProductionHandler("path-abempty"), segmentSequence);
+        
+        // path-absolute = "/" [ segment-nz *( "/" segment ) ]
+        grammar.addProduction(pathAbsolute, new TestProductionHandler("path-absolute"), ForwardSlash);
+        grammar.addProduction(pathAbsolute, new TestProductionHandler("path-absolute"), ForwardSlash, segmentNz, segmentSequence);
+        
+        // path-noscheme = segment-nz-nc *( "/" segment )
+        grammar.addProduction(pathNoScheme, new TestProductionHandler("path-noscheme"), segmentNzNc);
+        grammar.addProduction(pathNoScheme, new TestProductionHandler("path-noscheme"), segmentNzNc, segmentSequence);
+        
+        // path-empty = 0<pchar>
+        grammar.addProduction(pathEmpty, new TestProductionHandler("path-empty"));
+
+        // URI = scheme ":" hier-part [ "?" query ] [ "#" fragment ]
+        grammar.addProduction(uri, new TestProductionHandler("URI"), scheme, Colon, hierPart);
+        grammar.addProduction(uri, new TestProductionHandler("URI"), scheme, Colon, hierPart, QuestionMark, query);
+        grammar.addProduction(uri, new TestProductionHandler("URI"), scheme, Colon, hierPart, NumberSign, fragment);
+        grammar.addProduction(uri, new TestProductionHandler("URI"), scheme, Colon, hierPart, QuestionMark, query, NumberSign, fragment);
+        
+        // relative-part = "//" authority path-abempty / path-absolute / path-noscheme / path-empty
+        grammar.addProduction(relativePart, new TestProductionHandler("relative-part"), ForwardSlash, ForwardSlash, authority, pathAbEmpty);
+        grammar.addProduction(relativePart, new TestProductionHandler("relative-part"), pathAbsolute);
+        grammar.addProduction(relativePart, new TestProductionHandler("relative-part"), pathNoScheme);
+        grammar.addProduction(relativePart, new TestProductionHandler("relative-part"), pathEmpty);
+
+        // relative-ref = relative-part [ "?" query ] [ "#" fragment ]
+        grammar.addProduction(relativeRef, new TestProductionHandler("relative-ref"), relativePart);
+        grammar.addProduction(relativeRef, new TestProductionHandler("relative-ref"), relativePart, QuestionMark, query);
+        grammar.addProduction(relativeRef, new TestProductionHandler("relative-ref"), relativePart, NumberSign, fragment);
+        grammar.addProduction(relativeRef, new TestProductionHandler("relative-ref"), relativePart, QuestionMark, query, NumberSign, fragment);
+        
+        // URI-reference = URI / relative-ref
+        grammar.addProduction(uriReference, new TestProductionHandler("URI-reference"), uri);
+        grammar.addProduction(uriReference, new TestProductionHandler("URI-reference"), relativeRef);
+        
+        return grammar;
+    }
+    
+}